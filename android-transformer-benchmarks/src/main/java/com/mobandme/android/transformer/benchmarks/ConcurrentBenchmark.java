@@ -0,0 +1,90 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.android.transformer.benchmarks;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.model.HomeModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one Transformer shared by several threads, each thread transforms its own HomeModel. Compare
+ * the score of the threaded cases with the single thread one to see how the shared transformer scales.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentBenchmark {
+    private Transformer homeModelTransformer;
+
+    @State(Scope.Thread)
+    public static class ThreadHome {
+        HomeModel homeModel;
+
+        @Setup
+        public void setup() {
+            homeModel = Homes.newHomeModel((int)Thread.currentThread().getId());
+        }
+    }
+
+    @Setup
+    public void setup() {
+        homeModelTransformer = new Transformer.Builder().build(HomeModel.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Home sharedTransformerOneThread(ThreadHome threadHome) {
+        return homeModelTransformer.transform(threadHome.homeModel, Home.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Home sharedTransformerFourThreads(ThreadHome threadHome) {
+        return homeModelTransformer.transform(threadHome.homeModel, Home.class);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Home sharedTransformerEightThreads(ThreadHome threadHome) {
+        return homeModelTransformer.transform(threadHome.homeModel, Home.class);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.benchmarks;
+
+import com.mobandme.sample.app.data.entity.HomeEntity;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.domain.HomeColor;
+import com.mobandme.sample.app.model.HomeColorModel;
+import com.mobandme.sample.app.model.HomeModel;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+/**
+ * Test objects of the benchmarks and the hand-written transformations used as the baseline.
+ */
+final class Homes {
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMATTER = new ThreadLocal<SimpleDateFormat>() {
+        @Override protected SimpleDateFormat initialValue() { return new SimpleDateFormat("yyyy-MM-dd"); }
+    };
+
+    private Homes() { }
+
+    public static HomeModel newHomeModel(int index) {
+        HomeColorModel color = new HomeColorModel();
+        color.setColorName("Red");
+        color.setColorHex("#FF0000");
+
+        HomeModel model = new HomeModel();
+        model.Address = "Avenida Libertad " + index;
+        model.City = "Bilbao";
+        model.PostalCode = "48001";
+        model.Country = "Spain";
+        model.Date = new GregorianCalendar(2015, Calendar.MARCH, 1 + (index % 28));
+        model.HomeColor = color;
+        return model;
+    }
+
+    public static HomeEntity newHomeEntity(int index) {
+        HomeEntity entity = new HomeEntity();
+        entity.Address = "Avenida Libertad " + index;
+        entity.City = "Bilbao";
+        entity.PostalCode = "48001";
+        entity.Country = "Spain";
+        entity.Date = "2015-03-01";
+        return entity;
+    }
+
+    public static List<HomeModel> newHomeModels(int size) {
+        List<HomeModel> result = new ArrayList<>(size);
+        for (int index = 0; index < size; index++)
+            result.add(newHomeModel(index));
+        return result;
+    }
+
+    /**
+     * Same transformation than the generated HomeModelMapper, including its date parser.
+     */
+    public static Home toHome(HomeModel model) {
+        HomeColor color = null;
+        if (model.HomeColor != null) {
+            color = new HomeColor();
+            color.setColorName(model.HomeColor.getColorName());
+            color.setColorHex(model.HomeColor.getColorHex());
+        }
+
+        Home home = new Home();
+        home.PostalAddress = model.Address;
+        home.City = model.City;
+        home.PostalCode = model.PostalCode;
+        home.Country = model.Country;
+        home.Date = model.Date == null ? null : DATE_FORMATTER.get().format(model.Date.getTime());
+        home.HomeColor = color;
+        return home;
+    }
+
+    /**
+     * Same transformation than the generated HomeEntityMapper.
+     */
+    public static Home toHome(HomeEntity entity) {
+        Home home = new Home();
+        home.PostalAddress = entity.Address;
+        home.City = entity.City;
+        home.PostalCode = entity.PostalCode;
+        home.Country = entity.Country;
+        home.Date = entity.Date;
+        return home;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.benchmarks;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.model.HomeModel;
+import com.mobandme.sample.app.model.mapper.HomeModelMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transformation of lists of objects through the Transformer, through the generated mapper and by hand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private Transformer homeModelTransformer;
+    private HomeModelMapper homeModelMapper;
+    private List<HomeModel> homeModels;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        homeModelTransformer = new Transformer.Builder().build(HomeModel.class);
+        homeModelMapper = new HomeModelMapper();
+        homeModels = Homes.newHomeModels(size);
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<Home> transformer() {
+        return homeModelTransformer.transformAll(homeModels, Home.class);
+    }
+
+    @Benchmark
+    public List<Home> transformerParallel() {
+        return homeModelTransformer.transformAllParallel(homeModels, Home.class, executor);
+    }
+
+    @Benchmark
+    public List<Home> mapper() {
+        List<Home> result = new ArrayList<>(homeModels.size());
+        for (HomeModel homeModel : homeModels)
+            result.add(homeModelMapper.transform(homeModel));
+        return result;
+    }
+
+    @Benchmark
+    public List<Home> handWritten() {
+        List<Home> result = new ArrayList<>(homeModels.size());
+        for (HomeModel homeModel : homeModels)
+            result.add(Homes.toHome(homeModel));
+        return result;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.benchmarks;
+
+import com.mobandme.android.transformer.parser.CalendarToIsoStringParser;
+import com.mobandme.android.transformer.parser.DoubleToStringParser;
+import com.mobandme.android.transformer.parser.EnumToStringParser;
+import com.mobandme.android.transformer.parser.IntToStringParser;
+import com.mobandme.android.transformer.parser.IsoStringToCalendarParser;
+import com.mobandme.android.transformer.parser.LongToStringParser;
+import com.mobandme.android.transformer.parser.StringToDoubleParser;
+import com.mobandme.android.transformer.parser.StringToEnumParser;
+import com.mobandme.android.transformer.parser.StringToIntParser;
+import com.mobandme.android.transformer.parser.StringToLongParser;
+import com.mobandme.sample.app.model.parser.CalendarToStringParser;
+import com.mobandme.sample.app.model.parser.StringToCalendarParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date parsers of the sample application, based on SimpleDateFormat, against the built-in ISO-8601 parsers, and
+ * the built-in number and enum parsers against the JDK methods that they wrap. The number parsers are measured
+ * through their primitive methods, used by the generated mappers for primitive fields, and through the boxed
+ * parse method, used for the wrapper fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    public enum Room { KITCHEN, BATHROOM, BEDROOM, LIVING_ROOM }
+
+    public static class StringToRoomParser extends StringToEnumParser<Room> {
+        public StringToRoomParser() { super(Room.class); }
+    }
+
+    private CalendarToStringParser calendarToStringParser;
+    private StringToCalendarParser stringToCalendarParser;
+    private CalendarToIsoStringParser calendarToIsoStringParser;
+    private IsoStringToCalendarParser isoStringToCalendarParser;
+    private StringToIntParser stringToIntParser;
+    private IntToStringParser intToStringParser;
+    private StringToLongParser stringToLongParser;
+    private LongToStringParser longToStringParser;
+    private StringToDoubleParser stringToDoubleParser;
+    private DoubleToStringParser doubleToStringParser;
+    private StringToRoomParser stringToRoomParser;
+    private EnumToStringParser<Room> roomToStringParser;
+    private Calendar calendar;
+    private String date;
+    private String isoDate;
+    private String intText;
+    private int intValue;
+    private String longText;
+    private long longValue;
+    private String doubleText;
+    private double doubleValue;
+    private String roomName;
+    private Room room;
+
+    @Setup
+    public void setup() {
+        calendarToStringParser = new CalendarToStringParser();
+        stringToCalendarParser = new StringToCalendarParser();
+        calendarToIsoStringParser = new CalendarToIsoStringParser();
+        isoStringToCalendarParser = new IsoStringToCalendarParser();
+        calendar = new GregorianCalendar(2015, Calendar.MARCH, 1);
+        date = calendarToStringParser.parse(calendar);
+        isoDate = calendarToIsoStringParser.parse(calendar);
+        stringToIntParser = new StringToIntParser();
+        intToStringParser = new IntToStringParser();
+        stringToLongParser = new StringToLongParser();
+        longToStringParser = new LongToStringParser();
+        stringToDoubleParser = new StringToDoubleParser();
+        doubleToStringParser = new DoubleToStringParser();
+        stringToRoomParser = new StringToRoomParser();
+        roomToStringParser = new EnumToStringParser<>();
+        intText = "250000";
+        intValue = 250000;
+        longText = "1425168000000";
+        longValue = 1425168000000L;
+        doubleText = "1250.75";
+        doubleValue = 1250.75;
+        roomName = "LIVING_ROOM";
+        room = Room.LIVING_ROOM;
+    }
+
+    @Benchmark
+    public String calendarToString() {
+        return calendarToStringParser.parse(calendar);
+    }
+
+    @Benchmark
+    public Calendar stringToCalendar() {
+        return stringToCalendarParser.parse(date);
+    }
+
+    @Benchmark
+    public String calendarToIsoString() {
+        return calendarToIsoStringParser.parse(calendar);
+    }
+
+    @Benchmark
+    public Calendar isoStringToCalendar() {
+        return isoStringToCalendarParser.parse(isoDate);
+    }
+
+    @Benchmark
+    public int stringToIntParser() {
+        return stringToIntParser.parseInt(intText);
+    }
+
+    @Benchmark
+    public Integer stringToIntParserBoxed() {
+        return stringToIntParser.parse(intText);
+    }
+
+    @Benchmark
+    public int integerParseInt() {
+        return Integer.parseInt(intText);
+    }
+
+    @Benchmark
+    public Integer integerValueOf() {
+        return Integer.valueOf(intText);
+    }
+
+    @Benchmark
+    public String intToStringParser() {
+        return intToStringParser.parse(intValue);
+    }
+
+    @Benchmark
+    public String intToStringParserBoxed() {
+        return intToStringParser.parse(Integer.valueOf(intValue));
+    }
+
+    @Benchmark
+    public String stringValueOfInt() {
+        return String.valueOf(intValue);
+    }
+
+    @Benchmark
+    public long stringToLongParser() {
+        return stringToLongParser.parseLong(longText);
+    }
+
+    @Benchmark
+    public long longParseLong() {
+        return Long.parseLong(longText);
+    }
+
+    @Benchmark
+    public String longToStringParser() {
+        return longToStringParser.parse(longValue);
+    }
+
+    @Benchmark
+    public String stringValueOfLong() {
+        return String.valueOf(longValue);
+    }
+
+    @Benchmark
+    public double stringToDoubleParser() {
+        return stringToDoubleParser.parseDouble(doubleText);
+    }
+
+    @Benchmark
+    public double doubleParseDouble() {
+        return Double.parseDouble(doubleText);
+    }
+
+    @Benchmark
+    public String doubleToStringParser() {
+        return doubleToStringParser.parse(doubleValue);
+    }
+
+    @Benchmark
+    public String stringValueOfDouble() {
+        return String.valueOf(doubleValue);
+    }
+
+    @Benchmark
+    public Room stringToEnumParser() {
+        return stringToRoomParser.parse(roomName);
+    }
+
+    @Benchmark
+    public Room enumValueOf() {
+        return Enum.valueOf(Room.class, roomName);
+    }
+
+    @Benchmark
+    public String enumToStringParser() {
+        return roomToStringParser.parse(room);
+    }
+
+    @Benchmark
+    public String enumName() {
+        return room.name();
+    }
+}
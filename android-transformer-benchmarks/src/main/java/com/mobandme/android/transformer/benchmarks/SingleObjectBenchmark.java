@@ -0,0 +1,181 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.benchmarks;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.data.entity.HomeEntity;
+import com.mobandme.sample.app.data.entity.mapper.HomeEntityMapper;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.model.HomeModel;
+import com.mobandme.sample.app.model.mapper.CountryModelMapper;
+import com.mobandme.sample.app.model.mapper.CountryNameModelMapper;
+import com.mobandme.sample.app.model.mapper.HomeColorModelMapper;
+import com.mobandme.sample.app.model.mapper.HomeModelMapper;
+import com.mobandme.sample.app.model.mapper.HomeStatsModelMapper;
+import com.mobandme.sample.app.model.mapper.ListingModelMapper;
+import com.mobandme.sample.app.model.mapper.PaletteModelMapper;
+import com.mobandme.sample.app.model.mapper.RoomModelMapper;
+import com.mobandme.sample.app.model.transformer.Transformers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transformation of a single object through the Transformer, through the generated mapper and facade, and
+ * by hand.
+ * HomeEntity is a flat object and HomeModel has a nested mappable object and a parsed field. The
+ * nestedReflectiveResolution case repeats the work that the Transformer did on each call before caching the
+ * generated transformer and its mappers, compare it with nestedTransformer and nestedTransformerBuiltPerCall.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingleObjectBenchmark {
+    private static final String TRANSFORMER_PACKAGE_PATTERN = "%s.transformer";
+    private static final String TRANSFORMER_CLASS_NAME = "Transformer";
+
+    private Transformer homeModelTransformer;
+    private Transformer homeEntityTransformer;
+    private HomeModelMapper homeModelMapper;
+    private HomeEntityMapper homeEntityMapper;
+    private HomeModel homeModel;
+    private HomeEntity homeEntity;
+
+    @Setup
+    public void setup() {
+        homeModelTransformer = new Transformer.Builder().build(HomeModel.class);
+        homeEntityTransformer = new Transformer.Builder().build(HomeEntity.class);
+        homeModelMapper = new HomeModelMapper();
+        homeEntityMapper = new HomeEntityMapper();
+        homeModel = Homes.newHomeModel(0);
+        homeEntity = Homes.newHomeEntity(0);
+    }
+
+    @Benchmark
+    public Home flatTransformer() {
+        return homeEntityTransformer.transform(homeEntity, Home.class);
+    }
+
+    @Benchmark
+    public Home flatMapper() {
+        return homeEntityMapper.transform(homeEntity);
+    }
+
+    @Benchmark
+    public Home flatHandWritten() {
+        return Homes.toHome(homeEntity);
+    }
+
+    @Benchmark
+    public Home nestedTransformer() {
+        return homeModelTransformer.transform(homeModel, Home.class);
+    }
+
+    /**
+     * Builds a new Transformer on each call, the generated transformer is resolved from the process wide cache.
+     */
+    @Benchmark
+    public Home nestedTransformerBuiltPerCall() {
+        return new Transformer.Builder().build(HomeModel.class).transform(homeModel, Home.class);
+    }
+
+    /**
+     * Transforms as the Transformer did before caching: builds the name of the generated transformer, creates it
+     * by reflection, creates a new instance of every mapper of the package as its constructor did, looks up the
+     * mapper by the canonical name of the value and calls its transform method by reflection.
+     */
+    @Benchmark
+    public Object nestedReflectiveResolution() throws Exception {
+        String packageName = String.format(TRANSFORMER_PACKAGE_PATTERN, HomeModel.class.getPackage().getName());
+        String transformerCanonicalName = String.format("%s.%s", packageName, TRANSFORMER_CLASS_NAME);
+        Class.forName(transformerCanonicalName).getConstructor().newInstance();
+
+        Object mapper = newModelMappers().get(homeModel.getClass().getCanonicalName());
+        Method transformMethod = mapper.getClass().getMethod("transform", homeModel.getClass());
+        return transformMethod.invoke(mapper, homeModel);
+    }
+
+    @Benchmark
+    public Home nestedMapper() {
+        return homeModelMapper.transform(homeModel);
+    }
+
+    @Benchmark
+    public Home nestedFacade() {
+        return Transformers.toHome(homeModel);
+    }
+
+    @Benchmark
+    public Home nestedHandWritten() {
+        return Homes.toHome(homeModel);
+    }
+
+    /**
+     * The mapper list that the generated transformer of the model package built on its constructor, one new
+     * mapper for each mappable class and another one for its linked class.
+     */
+    private static Map<String, Object> newModelMappers() {
+        Map<String, Object> result = new HashMap<>();
+        addMapper(result, "com.mobandme.sample.app.model.CountryModel", new CountryModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.Country", new CountryModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.CountryNameModel", new CountryNameModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.Country", new CountryNameModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.HomeColorModel", new HomeColorModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.HomeColor", new HomeColorModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.HomeModel", new HomeModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.Home", new HomeModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.HomeStatsModel", new HomeStatsModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.HomeStats", new HomeStatsModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.ListingModel", new ListingModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.Listing", new ListingModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.PaletteModel", new PaletteModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.Palette", new PaletteModelMapper());
+        addMapper(result, "com.mobandme.sample.app.model.RoomModel", new RoomModelMapper());
+        addMapper(result, "com.mobandme.sample.app.domain.Room", new RoomModelMapper());
+        return result;
+    }
+
+    private static void addMapper(Map<String, Object> mappers, String classCanonicalName, Object mapper) {
+        if (!mappers.containsKey(classCanonicalName))
+            mappers.put(classCanonicalName, mapper);
+    }
+}
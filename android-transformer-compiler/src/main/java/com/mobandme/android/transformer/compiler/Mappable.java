@@ -41,4 +41,28 @@ public @interface Mappable {
      * Use this property to establish the linked object type.
      */
     Class<?> with();
+
+    /**
+     * Use this property to generate lazy objects for the Transformer.transformLazy method, the fields with
+     * getters and setters are mapped the first time they are read. The linked classes cannot be final.
+     * The lazy objects are confined to one thread, they load their fields without synchronization and share
+     * the mapping context of the transformation, so read them from the thread that created them or publish
+     * them safely after all their fields are read. If a field fails to load it is loaded again the next time
+     * it is read.
+     */
+    boolean lazy() default false;
+
+    /**
+     * Use this property to generate the mapping code used by the Transformer.transformChanged method, only the
+     * fields whose value changed since the last transformation are mapped.
+     */
+    boolean trackChanges() default false;
+
+    /**
+     * Use this property to cache the results of Transformer.transform for the last transformed objects of this
+     * class and of its linked class, transforming the same instance again returns the same result. The size is
+     * a budget per direction, each direction keeps up to cacheSize results. Only enable it for objects that are
+     * not changed after being transformed, zero disables the cache.
+     */
+    int cacheSize() default 0;
 }
@@ -32,11 +32,15 @@ import com.mobandme.android.transformer.compiler.Parse;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
@@ -51,10 +55,16 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 
 
 @SupportedSourceVersion(SourceVersion.RELEASE_7)
@@ -67,6 +77,12 @@ public class AnnotationsProcessor extends AbstractProcessor {
 
     final String BOOLEAN_FIELD_PREFIX = "is";
     final String SOME_FIELD_PREFIX = "get";
+    final String SETTER_PREFIX = "set";
+    final List<String> PRIMITIVE_TYPES = Arrays.asList("boolean", "byte", "short", "char", "int", "long", "float", "double");
+    final List<String> LIST_TYPES = Arrays.asList("java.util.List", "java.util.Collection", "java.util.ArrayList");
+    final List<String> SET_TYPES = Arrays.asList("java.util.Set", "java.util.HashSet", "java.util.LinkedHashSet");
+    final List<String> MAP_TYPES = Arrays.asList("java.util.Map", "java.util.HashMap", "java.util.LinkedHashMap");
+    final List<String> WRAPPER_TYPES = Arrays.asList("java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Character", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double");
 
     RoundEnvironment roundEnvironment;
     Map<String, MapperInfo> mappersList;
@@ -88,13 +104,18 @@ public class AnnotationsProcessor extends AbstractProcessor {
 
     private void buildMapperObjects() {
         for (MapperInfo mapper : this.mappersList.values()) {
-            Collection<String> mapperImports = new ArrayList<>();
-            Collection<String> classVars = new ArrayList<>();
-            Collection<String> directFields = new ArrayList<>();
-            Collection<String> inverseFields = new ArrayList<>();
-
-            mapperImports.add("import java.util.ArrayList;");
-            mapperImports.add("import java.util.Collection;");
+            Collection<String> mapperImports = new LinkedHashSet<>();
+            Collection<String> classVars = new LinkedHashSet<>();
+            List<String> directFields = new ArrayList<>();
+            List<String> inverseFields = new ArrayList<>();
+            LazyClassInfo directLazyClass = new LazyClassInfo(mapper.className, mapper.linkedClassName);
+            LazyClassInfo inverseLazyClass = new LazyClassInfo(mapper.linkedClassName, mapper.className);
+            ChangedMethodInfo directChangedMethod = new ChangedMethodInfo(mapper.className, mapper.linkedClassName);
+            ChangedMethodInfo inverseChangedMethod = new ChangedMethodInfo(mapper.linkedClassName, mapper.className);
+            Map<String, CollectionMethodInfo> collectionMethods = new LinkedHashMap<>();
+
+            mapperImports.add(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_PACKAGE, "MappingContext"));
+            mapperImports.add(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, "Mapper"));
             mapperImports.add(String.format(Tools.IMPORT_PATTERN, mapper.packageName, mapper.className));
             mapperImports.add(String.format(Tools.IMPORT_PATTERN, mapper.linkedPackageName, mapper.linkedClassName));
 
@@ -112,32 +133,120 @@ public class AnnotationsProcessor extends AbstractProcessor {
 
                 if (mapperField.originToDestinationParserClassName == null && mapperField.destinationToOriginParserClassName == null) {
                     MapperInfo mapperInfo = mapperForMapperField(mapperField);
-                    if (mapperInfo != null) {
-                        mapperImports.add(String.format(Tools.IMPORT_PATTERN, mapperInfo.mapperPackageName, mapperInfo.mapperClassName));
-                        classVars.add(String.format(Tools.MAPPER_CLASS_VAR_CONSTANT_PATTERN, mapperInfo.mapperClassName, toLowerCamelCase(mapperInfo.mapperClassName), mapperInfo.mapperClassName));
+                    String collectionKind = getCollectionKind(mapperField.fieldTypeMirror);
+                    if (collectionKind == null && isCollection(mapperField.fieldTypeMirror) && mapperForType(getCollectionElementType(mapperField.fieldTypeMirror)) != null) {
+                        writeError(String.format("The '%s.%s' field cannot be mapped because its collection type is not supported, declare it as an array, List, Collection, ArrayList, Set, HashSet, LinkedHashSet, Map, HashMap or LinkedHashMap.", mapper.mappableClassName, mapperField.fieldName));
+                        continue;
+                    }
+                    MapperInfo elementMapperInfo = collectionKind != null ? mapperForType(getCollectionElementType(mapperField.fieldTypeMirror)) : null;
+                    if (elementMapperInfo != null) {
+                        String elementMapperVar = Tools.SELF_MAPPER_VAR;
+                        if (elementMapperInfo != mapper) {
+                            elementMapperVar = String.format(Tools.MAPPER_INSTANCE_PATTERN, elementMapperInfo.mapperClassName);
+                            mapperImports.add(String.format(Tools.IMPORT_PATTERN, elementMapperInfo.mapperPackageName, elementMapperInfo.mapperClassName));
+                        }
+                        mapperImports.add(String.format(Tools.IMPORT_PATTERN, elementMapperInfo.packageName, elementMapperInfo.className));
+                        mapperImports.add(String.format(Tools.IMPORT_PATTERN, elementMapperInfo.linkedPackageName, elementMapperInfo.linkedClassName));
+                        addCollectionImports(mapperImports, collectionKind);
+
+                        CollectionMethodInfo directMethod = new CollectionMethodInfo(collectionKind, elementMapperInfo.className, elementMapperInfo.linkedClassName, elementMapperVar);
+                        CollectionMethodInfo inverseMethod = new CollectionMethodInfo(collectionKind, elementMapperInfo.linkedClassName, elementMapperInfo.className, elementMapperVar);
+                        collectionMethods.put(directMethod.methodName, directMethod);
+                        collectionMethods.put(inverseMethod.methodName, inverseMethod);
+
+                        String mapperCollectionPattern = getMapperCollectionPattern(mapperField);
+                        directFields.add(String.format(mapperCollectionPattern, destinationFieldName, directMethod.methodName, returnedFieldPrefix(mapperField, originFieldName)));
+                        inverseFields.add(String.format(mapperCollectionPattern, originFieldName, inverseMethod.methodName, returnedFieldPrefix(mapperField, destinationFieldName)));
+                    } else if (mapperInfo != null) {
+                        String compositeMapperVar = Tools.SELF_MAPPER_VAR;
+                        if (mapperInfo != mapper) {
+                            compositeMapperVar = String.format(Tools.MAPPER_INSTANCE_PATTERN, mapperInfo.mapperClassName);
+                            mapperImports.add(String.format(Tools.IMPORT_PATTERN, mapperInfo.mapperPackageName, mapperInfo.mapperClassName));
+                        }
 
                         String mapperCompositePattern = getMapperCompositePattern(mapperField);
-                        directFields.add(String.format(mapperCompositePattern, destinationFieldName, toLowerCamelCase(mapperInfo.mapperClassName), returnedFieldPrefix(mapperField, originFieldName)));
-                        inverseFields.add(String.format(mapperCompositePattern, originFieldName, toLowerCamelCase(mapperInfo.mapperClassName), returnedFieldPrefix(mapperField, destinationFieldName)));
+                        directFields.add(String.format(mapperCompositePattern, destinationFieldName, compositeMapperVar, returnedFieldPrefix(mapperField, originFieldName), returnedFieldPrefix(mapperField, destinationFieldName)));
+                        inverseFields.add(String.format(mapperCompositePattern, originFieldName, compositeMapperVar, returnedFieldPrefix(mapperField, destinationFieldName), returnedFieldPrefix(mapperField, originFieldName)));
                     } else {
-                        String mapperFieldPattern = getMapperFieldPattern(mapperField);
-                        directFields.add(String.format(mapperFieldPattern, destinationFieldName, returnedFieldPrefix(mapperField, originFieldName)));
-                        inverseFields.add(String.format(mapperFieldPattern, originFieldName, returnedFieldPrefix(mapperField, destinationFieldName)));
+                        String linkedFieldType = getLinkedFieldType(mapper, mapperField, destinationFieldName);
+                        boolean directUnboxing = isUnboxing(mapperField.fieldType, linkedFieldType);
+                        boolean inverseUnboxing = isUnboxing(linkedFieldType, mapperField.fieldType);
+                        if (directUnboxing || inverseUnboxing)
+                            mapperImports.add(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, "Primitives"));
+
+                        directFields.add(String.format(getMapperFieldPattern(mapperField, directUnboxing), destinationFieldName, returnedFieldPrefix(mapperField, originFieldName)));
+                        inverseFields.add(String.format(getMapperFieldPattern(mapperField, inverseUnboxing), originFieldName, returnedFieldPrefix(mapperField, destinationFieldName)));
                     }
                 } else {
                     mapperImports.add(String.format(Tools.IMPORT_PATTERN, mapperField.originToDestinationParserPackageName, mapperField.originToDestinationParserClassName));
                     mapperImports.add(String.format(Tools.IMPORT_PATTERN, mapperField.destinationToOriginParserPackageName, mapperField.destinationToOriginParserClassName));
 
+                    String originToDestinationParser = addParserClassVar(classVars, mapperField.originToDestinationParserClassName, mapperField.originToDestinationParserThreadSafe);
+                    String destinationToOriginParser = addParserClassVar(classVars, mapperField.destinationToOriginParserClassName, mapperField.destinationToOriginParserThreadSafe);
+
+                    String linkedFieldType = getLinkedFieldType(mapper, mapperField, destinationFieldName);
+                    String originToDestinationParseMethod = getParseMethod(mapperField.originToDestinationParserPrimitiveMethod, linkedFieldType);
+                    String destinationToOriginParseMethod = getParseMethod(mapperField.destinationToOriginParserPrimitiveMethod, mapperField.fieldType);
+
                     String mapperFieldWithParserPattern = getMapperFieldWithParserPattern(mapperField);
-                    directFields.add(String.format(mapperFieldWithParserPattern, destinationFieldName, mapperField.originToDestinationParserClassName, returnedFieldPrefix(mapperField, originFieldName)));
-                    inverseFields.add(String.format(mapperFieldWithParserPattern, originFieldName, mapperField.destinationToOriginParserClassName, returnedFieldPrefix(mapperField, destinationFieldName)));
+                    directFields.add(String.format(mapperFieldWithParserPattern, destinationFieldName, originToDestinationParser, originToDestinationParseMethod, returnedFieldPrefix(mapperField, originFieldName)));
+                    inverseFields.add(String.format(mapperFieldWithParserPattern, originFieldName, destinationToOriginParser, destinationToOriginParseMethod, returnedFieldPrefix(mapperField, destinationFieldName)));
+                }
+
+                if (mapper.lazy) {
+                    String directField = directFields.get(directFields.size() - 1);
+                    String inverseField = inverseFields.get(inverseFields.size() - 1);
+                    String linkedFieldType = getLinkedFieldType(mapper, mapperField, destinationFieldName);
+
+                    if (mapperField.isPublicField || linkedFieldType == null) {
+                        directLazyClass.eagerFields.add(directField);
+                        inverseLazyClass.eagerFields.add(inverseField);
+                    } else {
+                        directLazyClass.lazyFields.add(new LazyFieldInfo(destinationFieldName, linkedFieldType, returnedFieldPrefix(mapperField, destinationFieldName), directField));
+                        inverseLazyClass.lazyFields.add(new LazyFieldInfo(originFieldName, mapperField.fieldType, returnedFieldPrefix(mapperField, originFieldName), inverseField));
+                    }
+                }
+
+                if (mapper.trackChanges) {
+                    String trackedFieldPattern = getTrackedFieldPattern(mapperField);
+                    directChangedMethod.fields.add(new TrackedFieldInfo(String.format(trackedFieldPattern, returnedFieldPrefix(mapperField, originFieldName)), directFields.get(directFields.size() - 1)));
+                    inverseChangedMethod.fields.add(new TrackedFieldInfo(String.format(trackedFieldPattern, returnedFieldPrefix(mapperField, destinationFieldName)), inverseFields.get(inverseFields.size() - 1)));
                 }
             }
 
-            generateMapperJavaFile(mapper, classVars, mapperImports, directFields, inverseFields);
+            Collection<LazyClassInfo> lazyClasses = new ArrayList<>();
+            if (mapper.lazy) {
+                lazyClasses.add(directLazyClass);
+                lazyClasses.add(inverseLazyClass);
+            }
+
+            Collection<ChangedMethodInfo> changedMethods = new ArrayList<>();
+            if (mapper.trackChanges) {
+                mapperImports.add(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, "Changes"));
+                changedMethods.add(directChangedMethod);
+                changedMethods.add(inverseChangedMethod);
+            }
+
+            generateMapperJavaFile(mapper, classVars, mapperImports, directFields, inverseFields, collectionMethods.values(), lazyClasses, changedMethods);
         }
     }
 
+    private String addParserClassVar(Collection<String> classVars, String parserClassName, boolean threadSafe) {
+        String result;
+
+        String varName = toLowerCamelCase(parserClassName);
+        if (threadSafe) {
+            classVars.add(String.format(Tools.MAPPER_CLASS_VAR_CONSTANT_PATTERN, parserClassName, varName, parserClassName));
+            result = varName;
+        } else {
+            varName = String.format(Tools.PARSER_THREAD_LOCAL_VAR_PATTERN, varName);
+            classVars.add(String.format(Tools.MAPPER_CLASS_VAR_THREAD_LOCAL_PATTERN, parserClassName, varName));
+            result = String.format(Tools.PARSER_THREAD_LOCAL_ACCESS_PATTERN, varName);
+        }
+
+        return result;
+    }
+
     private String getMapperCompositePattern(MapperFieldInfo mapperField){
         String result;
 
@@ -150,6 +259,30 @@ public class AnnotationsProcessor extends AbstractProcessor {
         return result;
     }
 
+    private String getTrackedFieldPattern(MapperFieldInfo mapperField){
+        String result;
+
+        if (mapperField.isPublicField){
+            result = Tools.TRACKED_FIELD_PATTERN;
+        }else {
+            result = Tools.TRACKED_STANDARD_FIELD_PATTERN;
+        }
+
+        return result;
+    }
+
+    private String getMapperCollectionPattern(MapperFieldInfo mapperField){
+        String result;
+
+        if (mapperField.isPublicField){
+            result = Tools.MAPPER_FIELD_COLLECTION_PATTERN;
+        }else {
+            result = Tools.MAPPER_STANDARD_FIELD_COLLECTION_PATTERN;
+        }
+
+        return result;
+    }
+
     private String getMapperFieldWithParserPattern(MapperFieldInfo mapperField){
         String result;
 
@@ -174,15 +307,179 @@ public class AnnotationsProcessor extends AbstractProcessor {
         return result;
     }
 
+    private boolean isUnboxing(String sourceFieldType, String targetFieldType) {
+        return WRAPPER_TYPES.contains(sourceFieldType) && PRIMITIVE_TYPES.contains(targetFieldType);
+    }
+
+    private String getMapperFieldPattern(MapperFieldInfo mapperField, boolean unboxing) {
+        String result;
+
+        if (!unboxing) {
+            result = getMapperFieldPattern(mapperField);
+        } else if (mapperField.isPublicField) {
+            result = Tools.MAPPER_FIELD_UNBOXING_PATTERN;
+        } else {
+            result = Tools.MAPPER_STANDARD_FIELD_UNBOXING_PATTERN;
+        }
+
+        return result;
+    }
+
+    private String getParseMethod(String parserPrimitiveMethod, String targetFieldType) {
+        String result = Tools.PARSE_METHOD_NAME;
+
+        if (parserPrimitiveMethod != null && PRIMITIVE_TYPES.contains(targetFieldType))
+            result = parserPrimitiveMethod;
+
+        return result;
+    }
+
+    private String getPrimitiveParseMethod(TypeElement parserElement) {
+        TypeElement element = parserElement;
+
+        while (element != null) {
+            if (element.getQualifiedName().toString().startsWith(Tools.RUNTIME_PARSER_PACKAGE + ".")) {
+                switch (element.getSimpleName().toString()) {
+                    case "StringToIntParser": return "parseInt";
+                    case "StringToLongParser": return "parseLong";
+                    case "StringToDoubleParser": return "parseDouble";
+                }
+            }
+            element = getSuperclassElement(element);
+        }
+
+        return null;
+    }
+
+    private boolean isThreadSafeParser(TypeElement parserElement) {
+        for (AnnotationMirror annotation : parserElement.getAnnotationMirrors()) {
+            if (annotation.getAnnotationType().toString().equals(Tools.THREAD_SAFE_ANNOTATION))
+                return true;
+        }
+
+        return false;
+    }
+
+    private String getLinkedFieldType(MapperInfo mapper, MapperFieldInfo mapperField, String destinationFieldName) {
+        TypeElement element = mapper.linkedElement;
+
+        while (element != null) {
+            for (Element member : element.getEnclosedElements()) {
+                if (mapperField.isPublicField) {
+                    if (member.getKind() == ElementKind.FIELD && member.getSimpleName().toString().equals(destinationFieldName))
+                        return member.asType().toString();
+                } else if (member.getKind() == ElementKind.METHOD && member.getSimpleName().toString().equals(SETTER_PREFIX.concat(destinationFieldName))) {
+                    List<? extends VariableElement> parameters = ((ExecutableElement)member).getParameters();
+                    if (parameters.size() == 1)
+                        return parameters.get(0).asType().toString();
+                }
+            }
+            element = getSuperclassElement(element);
+        }
+
+        return null;
+    }
+
+    private TypeElement getSuperclassElement(TypeElement element) {
+        TypeMirror superclass = element.getSuperclass();
+
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+
+        return (TypeElement)processingEnv.getTypeUtils().asElement(superclass);
+    }
+
     private MapperInfo mapperForMapperField(MapperFieldInfo mapperField) {
+        return mapperForType(mapperField.fieldType);
+    }
+
+    private MapperInfo mapperForType(String type) {
         for (MapperInfo mapperInfo : mappersList.values()) {
-            if (mapperField.fieldType.equals(mapperInfo.mappableClassName)) {
+            if (mapperInfo.mappableClassName.equals(type)) {
                 return mapperInfo;
             }
         }
         return null;
     }
 
+    private String getCollectionKind(TypeMirror fieldType) {
+        String result = null;
+
+        if (fieldType.getKind() == TypeKind.ARRAY) {
+            result = Tools.ARRAY_KIND;
+        } else if (fieldType.getKind() == TypeKind.DECLARED) {
+            String rawType = processingEnv.getTypeUtils().erasure(fieldType).toString();
+            if (LIST_TYPES.contains(rawType) || SET_TYPES.contains(rawType) || MAP_TYPES.contains(rawType))
+                result = rawType;
+        }
+
+        return result;
+    }
+
+    private boolean isCollection(TypeMirror fieldType) {
+        if (fieldType.getKind() != TypeKind.DECLARED)
+            return false;
+
+        Types typeUtils = processingEnv.getTypeUtils();
+        TypeMirror rawType = typeUtils.erasure(fieldType);
+        TypeMirror collectionType = typeUtils.erasure(processingEnv.getElementUtils().getTypeElement("java.util.Collection").asType());
+        TypeMirror mapType = typeUtils.erasure(processingEnv.getElementUtils().getTypeElement("java.util.Map").asType());
+
+        return typeUtils.isAssignable(rawType, collectionType) || typeUtils.isAssignable(rawType, mapType);
+    }
+
+    private String getCollectionInstanceType(String collectionKind) {
+        String result;
+
+        switch (collectionKind) {
+            case "java.util.Map":
+                result = "LinkedHashMap";
+                break;
+            case "java.util.Set":
+                result = "LinkedHashSet";
+                break;
+            case "java.util.List":
+            case "java.util.Collection":
+                result = "ArrayList";
+                break;
+            default:
+                result = toSimpleName(collectionKind);
+                break;
+        }
+
+        return result;
+    }
+
+    private String toSimpleName(String canonicalName) {
+        return canonicalName.substring(canonicalName.lastIndexOf('.') + 1);
+    }
+
+    private String getCollectionElementType(TypeMirror fieldType) {
+        TypeMirror elementType = null;
+
+        if (fieldType.getKind() == TypeKind.ARRAY) {
+            elementType = ((ArrayType)fieldType).getComponentType();
+        } else {
+            List<? extends TypeMirror> typeArguments = ((DeclaredType)fieldType).getTypeArguments();
+            if (typeArguments.size() > 0)
+                elementType = typeArguments.get(typeArguments.size() - 1);
+        }
+
+        return elementType != null ? elementType.toString() : null;
+    }
+
+    private void addCollectionImports(Collection<String> mapperImports, String collectionKind) {
+        if (collectionKind.equals(Tools.ARRAY_KIND))
+            return;
+
+        mapperImports.add(String.format("import %s;", collectionKind));
+        mapperImports.add(String.format(Tools.IMPORT_PATTERN, "java.util", getCollectionInstanceType(collectionKind)));
+        if (MAP_TYPES.contains(collectionKind))
+            mapperImports.add("import java.util.Map;");
+        if (collectionKind.equals("java.util.List"))
+            mapperImports.add("import java.util.RandomAccess;");
+    }
+
     private String toLowerCamelCase(String className) {
         return className.substring(0, 1).toLowerCase().concat(className.substring(1));
     }
@@ -214,7 +511,7 @@ public class AnnotationsProcessor extends AbstractProcessor {
         return result;
     }
 
-    private void generateMapperJavaFile(MapperInfo mapper, Collection<String> classVars, Collection<String> imports, Collection<String> directFields, Collection<String> inverseFields) {
+    private void generateMapperJavaFile(MapperInfo mapper, Collection<String> classVars, Collection<String> imports, Collection<String> directFields, Collection<String> inverseFields, Collection<CollectionMethodInfo> collectionMethods, Collection<LazyClassInfo> lazyClasses, Collection<ChangedMethodInfo> changedMethods) {
 
         try {
 
@@ -234,7 +531,7 @@ public class AnnotationsProcessor extends AbstractProcessor {
 
             buffer.newLine();
             buffer.newLine();
-            buffer.append(String.format(Tools.CLASS_PATTERN, mapper.mapperClassName));
+            buffer.append(String.format(Tools.MAPPER_CLASS_PATTERN, mapper.mapperClassName, mapper.className, mapper.linkedClassName));
 
             if (classVars.size() > 0) {
                 buffer.newLine();
@@ -244,8 +541,26 @@ public class AnnotationsProcessor extends AbstractProcessor {
                 }
             }
 
-            generateTransformMethod(buffer, mapper.className, mapper.linkedClassName, directFields);
-            generateTransformMethod(buffer, mapper.linkedClassName, mapper.className, inverseFields);
+            generateGetInstanceMethod(buffer, mapper.mapperClassName);
+            generateTransformMethod(buffer, mapper.className, mapper.linkedClassName);
+            generateTransformMethod(buffer, mapper.linkedClassName, mapper.className);
+            generateTransformIntoMethod(buffer, mapper.className, mapper.linkedClassName, directFields);
+            generateTransformIntoMethod(buffer, mapper.linkedClassName, mapper.className, inverseFields);
+            for (LazyClassInfo lazyClass : lazyClasses)
+                generateTransformLazyMethod(buffer, lazyClass);
+            for (ChangedMethodInfo changedMethod : changedMethods)
+                generateTransformChangedMethod(buffer, changedMethod);
+            generateMapperInterfaceMethods(buffer, "toDestination", mapper.className, mapper.linkedClassName, mapper.lazy, mapper.trackChanges);
+            generateMapperInterfaceMethods(buffer, "toOrigin", mapper.linkedClassName, mapper.className, mapper.lazy, mapper.trackChanges);
+            generateSnapshotSizeMethod(buffer, mapper.trackChanges ? mapper.getFields().size() : 0);
+
+            for (CollectionMethodInfo collectionMethod : collectionMethods)
+                generateCollectionMethod(buffer, collectionMethod);
+
+            for (LazyClassInfo lazyClass : lazyClasses)
+                generateLazyClass(buffer, lazyClass);
+
+            generateInstanceHolderClass(buffer, mapper.mapperClassName);
 
             buffer.newLine();
             buffer.append("}");
@@ -256,24 +571,375 @@ public class AnnotationsProcessor extends AbstractProcessor {
         }
     }
 
-    private void generateTransformMethod(BufferedWriter buffer, String className, String linkedClassName, Collection<String> fields) throws IOException {
+    private void generateGetInstanceMethod(BufferedWriter buffer, String mapperClassName) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic static %s getInstance() {", mapperClassName));
+        buffer.newLine();
+        buffer.append(String.format("\t\treturn %s.INSTANCE;", Tools.MAPPER_INSTANCE_HOLDER_CLASS_NAME));
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateInstanceHolderClass(BufferedWriter buffer, String mapperClassName) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tprivate static final class %s {", Tools.MAPPER_INSTANCE_HOLDER_CLASS_NAME));
+        buffer.newLine();
+        buffer.append(String.format("\t\tstatic final %1$s INSTANCE = new %1$s();", mapperClassName));
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateTransformMethod(BufferedWriter buffer, String className, String linkedClassName) throws IOException {
         buffer.newLine();
         buffer.newLine();
         buffer.append(String.format("\tpublic %s transform(%s data) {", linkedClassName, className));
         buffer.newLine();
+        buffer.append("\t\treturn transformInto(data, null, null);");
+        buffer.newLine();
+        buffer.append("\t}");
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s transformInto(%s data, %s target) {", linkedClassName, className, linkedClassName));
+        buffer.newLine();
+        buffer.append("\t\treturn transformInto(data, target, null);");
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateTransformIntoMethod(BufferedWriter buffer, String className, String linkedClassName, Collection<String> fields) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s transformInto(%s data, %s target, MappingContext context) {", linkedClassName, className, linkedClassName));
+        buffer.newLine();
         buffer.append(String.format("\t\t%s result = null;", linkedClassName));
 
         buffer.newLine();
         buffer.newLine();
         buffer.append("\t\tif (data != null) {");
+        buffer.newLine();
+        buffer.append(String.format("\t\t\tresult = (context != null ? context.getDestination(data, %s.class) : null);", linkedClassName));
 
         buffer.newLine();
-        buffer.append(String.format("\t\t\tresult = new %s();", linkedClassName));
+        buffer.newLine();
+        buffer.append("\t\t\tif (result == null) {");
+        buffer.newLine();
+        buffer.append(String.format("\t\t\t\tresult = (target != null ? target : new %s());", linkedClassName));
+        buffer.newLine();
+        buffer.append("\t\t\t\tif (context != null)");
+        buffer.newLine();
+        buffer.append("\t\t\t\t\tcontext.putDestination(data, result);");
         buffer.newLine();
 
         for(String field : fields) {
             buffer.newLine();
-            buffer.append(String.format("\t\t\t%s", field));
+            buffer.append(String.format("\t\t\t\t%s", field));
+        }
+
+        buffer.newLine();
+        buffer.append("\t\t\t}");
+        buffer.newLine();
+        buffer.append("\t\t}");
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\treturn result;");
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateMapperInterfaceMethods(BufferedWriter buffer, String methodName, String className, String linkedClassName, boolean lazy, boolean trackChanges) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t@Override");
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s %s(%s data) {", linkedClassName, methodName, className));
+        buffer.newLine();
+        buffer.append("\t\treturn transform(data);");
+        buffer.newLine();
+        buffer.append("\t}");
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t@Override");
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s %s(%s data, %s target) {", linkedClassName, methodName, className, linkedClassName));
+        buffer.newLine();
+        buffer.append("\t\treturn transformInto(data, target);");
+        buffer.newLine();
+        buffer.append("\t}");
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t@Override");
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s %s(%s data, %s target, MappingContext context) {", linkedClassName, methodName, className, linkedClassName));
+        buffer.newLine();
+        buffer.append("\t\treturn transformInto(data, target, context);");
+        buffer.newLine();
+        buffer.append("\t}");
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t@Override");
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s %sLazy(%s data) {", linkedClassName, methodName, className));
+        buffer.newLine();
+        buffer.append(lazy ? "\t\treturn transformLazy(data, null);" : "\t\treturn transformInto(data, null, null);");
+        buffer.newLine();
+        buffer.append("\t}");
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t@Override");
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s %sChanged(%s data, %s target, Object[] snapshot) {", linkedClassName, methodName, className, linkedClassName));
+        buffer.newLine();
+        buffer.append(trackChanges ? "\t\treturn transformChanged(data, target, snapshot, null);" : "\t\treturn transformInto(data, target);");
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateSnapshotSizeMethod(BufferedWriter buffer, int snapshotSize) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t@Override");
+        buffer.newLine();
+        buffer.append("\tpublic int getSnapshotSize() {");
+        buffer.newLine();
+        buffer.append(String.format("\t\treturn %d;", snapshotSize));
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateTransformChangedMethod(BufferedWriter buffer, ChangedMethodInfo changedMethod) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s transformChanged(%s data, %s target, Object[] snapshot, MappingContext context) {", changedMethod.linkedClassName, changedMethod.className, changedMethod.linkedClassName));
+        buffer.newLine();
+        buffer.append(String.format("\t\t%s result = target;", changedMethod.linkedClassName));
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\tif (data != null) {");
+
+        int index = 0;
+        for (TrackedFieldInfo field : changedMethod.fields) {
+            buffer.newLine();
+            buffer.append(String.format("\t\t\tif (Changes.isChanged(snapshot[%d], %s)) {", index, field.sourceValue));
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t\tsnapshot[%d] = %s;", index, field.sourceValue));
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t\t%s", field.statement));
+            buffer.newLine();
+            buffer.append("\t\t\t}");
+            index++;
+        }
+
+        buffer.newLine();
+        buffer.append("\t\t}");
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\treturn result;");
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateTransformLazyMethod(BufferedWriter buffer, LazyClassInfo lazyClass) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic %s transformLazy(%s data, MappingContext context) {", lazyClass.linkedClassName, lazyClass.className));
+        buffer.newLine();
+        buffer.append(String.format("\t\t%s result = null;", lazyClass.linkedClassName));
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\tif (data != null) {");
+        buffer.newLine();
+        buffer.append(String.format("\t\t\tresult = (context != null ? context.getDestination(data, %s.class) : null);", lazyClass.linkedClassName));
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\t\tif (result == null) {");
+        buffer.newLine();
+        buffer.append(String.format("\t\t\t\tresult = new %s(data, context);", lazyClass.lazyClassName));
+        buffer.newLine();
+        buffer.append("\t\t\t\tif (context != null)");
+        buffer.newLine();
+        buffer.append("\t\t\t\t\tcontext.putDestination(data, result);");
+        buffer.newLine();
+
+        for(String field : lazyClass.eagerFields) {
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t\t%s", field));
+        }
+
+        buffer.newLine();
+        buffer.append("\t\t\t}");
+        buffer.newLine();
+        buffer.append("\t\t}");
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\treturn result;");
+        buffer.newLine();
+        buffer.append("\t}");
+
+        for (LazyFieldInfo field : lazyClass.lazyFields) {
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append(String.format("\tprivate void %s(%s data, %s result, MappingContext context) {", field.loadMethodName, lazyClass.className, lazyClass.linkedClassName));
+            buffer.newLine();
+            buffer.append(String.format("\t\t%s", field.statement));
+            buffer.newLine();
+            buffer.append("\t}");
+        }
+    }
+
+    private void generateLazyClass(BufferedWriter buffer, LazyClassInfo lazyClass) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tprivate final class %s extends %s {", lazyClass.lazyClassName, lazyClass.linkedClassName));
+        buffer.newLine();
+        buffer.append(String.format("\t\tprivate final %s data;", lazyClass.className));
+        buffer.newLine();
+        buffer.append("\t\tprivate final MappingContext context;");
+        for (LazyFieldInfo field : lazyClass.lazyFields) {
+            buffer.newLine();
+            buffer.append(String.format("\t\tprivate boolean %s;", field.loadedVarName));
+        }
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\t\t%s(%s data, MappingContext context) {", lazyClass.lazyClassName, lazyClass.className));
+        buffer.newLine();
+        buffer.append("\t\t\tthis.data = data;");
+        buffer.newLine();
+        buffer.append("\t\t\tthis.context = context;");
+        buffer.newLine();
+        buffer.append("\t\t}");
+
+        for (LazyFieldInfo field : lazyClass.lazyFields) {
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append("\t\t@Override");
+            buffer.newLine();
+            buffer.append(String.format("\t\tpublic %s %s() {", field.fieldType, field.getterName));
+            buffer.newLine();
+            buffer.append(String.format("\t\t\tif (!%s) {", field.loadedVarName));
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t\t%s = true;", field.loadedVarName));
+            buffer.newLine();
+            buffer.append("\t\t\t\ttry {");
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t\t\t%s(data, this, context);", field.loadMethodName));
+            buffer.newLine();
+            buffer.append("\t\t\t\t} catch (RuntimeException e) {");
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t\t\t%s = false;", field.loadedVarName));
+            buffer.newLine();
+            buffer.append("\t\t\t\t\tthrow e;");
+            buffer.newLine();
+            buffer.append("\t\t\t\t}");
+            buffer.newLine();
+            buffer.append("\t\t\t}");
+            buffer.newLine();
+            buffer.append(String.format("\t\t\treturn super.%s();", field.getterName));
+            buffer.newLine();
+            buffer.append("\t\t}");
+
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append("\t\t@Override");
+            buffer.newLine();
+            buffer.append(String.format("\t\tpublic void %s%s(%s value) {", SETTER_PREFIX, field.fieldName, field.fieldType));
+            buffer.newLine();
+            buffer.append(String.format("\t\t\t%s = true;", field.loadedVarName));
+            buffer.newLine();
+            buffer.append(String.format("\t\t\tsuper.%s%s(value);", SETTER_PREFIX, field.fieldName));
+            buffer.newLine();
+            buffer.append("\t\t}");
+        }
+
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateCollectionMethod(BufferedWriter buffer, CollectionMethodInfo method) throws IOException {
+        String sourceType;
+        String targetType;
+        String targetInstance;
+
+        boolean isMap = MAP_TYPES.contains(method.kind);
+
+        if (method.kind.equals(Tools.ARRAY_KIND)) {
+            sourceType = String.format("%s[]", method.sourceClassName);
+            targetType = String.format("%s[]", method.targetClassName);
+            targetInstance = String.format("new %s[data.length]", method.targetClassName);
+        } else {
+            String collectionType = toSimpleName(method.kind);
+            String instanceType = getCollectionInstanceType(method.kind);
+            String typeArguments = isMap ? "K, %s" : "%s";
+            sourceType = String.format("%s<%s>", collectionType, String.format(typeArguments, method.sourceClassName));
+            targetType = String.format("%s<%s>", collectionType, String.format(typeArguments, method.targetClassName));
+            if (LIST_TYPES.contains(method.kind))
+                targetInstance = String.format("new %s<%s>(data.size())", instanceType, String.format(typeArguments, method.targetClassName));
+            else
+                targetInstance = String.format("new %s<%s>(Math.max(16, (int)(data.size() / .75f) + 1))", instanceType, String.format(typeArguments, method.targetClassName));
+        }
+
+        String transformPattern = String.format("%s.transformInto(%%s, null, context)", method.mapperVar);
+
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tprivate %s%s %s(%s data, MappingContext context) {", isMap ? "<K> " : "", targetType, method.methodName, sourceType));
+        buffer.newLine();
+        buffer.append(String.format("\t\t%s result = null;", targetType));
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\tif (data != null) {");
+        buffer.newLine();
+        buffer.append(String.format("\t\t\tresult = %s;", targetInstance));
+        buffer.newLine();
+
+        switch (method.kind) {
+            case Tools.ARRAY_KIND:
+                buffer.append("\t\t\tfor (int index = 0; index < data.length; index++)");
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\tresult[index] = %s;", String.format(transformPattern, "data[index]")));
+                break;
+            case "java.util.ArrayList":
+                buffer.append("\t\t\tfor (int index = 0, size = data.size(); index < size; index++)");
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\tresult.add(%s);", String.format(transformPattern, "data.get(index)")));
+                break;
+            case "java.util.Map":
+            case "java.util.HashMap":
+            case "java.util.LinkedHashMap":
+                buffer.append(String.format("\t\t\tfor (Map.Entry<K, %s> entry : data.entrySet())", method.sourceClassName));
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\tresult.put(entry.getKey(), %s);", String.format(transformPattern, "entry.getValue()")));
+                break;
+            case "java.util.List":
+                buffer.append("\t\t\tif (data instanceof RandomAccess) {");
+                buffer.newLine();
+                buffer.append("\t\t\t\tfor (int index = 0, size = data.size(); index < size; index++)");
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\t\tresult.add(%s);", String.format(transformPattern, "data.get(index)")));
+                buffer.newLine();
+                buffer.append("\t\t\t} else {");
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\tfor (%s item : data)", method.sourceClassName));
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\t\tresult.add(%s);", String.format(transformPattern, "item")));
+                buffer.newLine();
+                buffer.append("\t\t\t}");
+                break;
+            default:
+                buffer.append(String.format("\t\t\tfor (%s item : data)", method.sourceClassName));
+                buffer.newLine();
+                buffer.append(String.format("\t\t\t\tresult.add(%s);", String.format(transformPattern, "item")));
+                break;
         }
 
         buffer.newLine();
@@ -286,7 +952,7 @@ public class AnnotationsProcessor extends AbstractProcessor {
     }
 
     private void generateTransformersJavaFiles() {
-        Map<String, TransformerInfo> transformersList = new HashMap<>();
+        Map<String, TransformerInfo> transformersList = new TreeMap<>();
         
         if (mappersList.size() > 0) {
             for (MapperInfo mapper : mappersList.values()) {
@@ -302,6 +968,215 @@ public class AnnotationsProcessor extends AbstractProcessor {
             }
             
             generateTransformerJavaFile(transformersList);
+            generateFacadeJavaFiles(transformersList.values());
+            generateRegistryJavaFile(transformersList.values());
+        }
+    }
+
+    private void generateFacadeJavaFiles(Collection<TransformerInfo> transformers) {
+        try {
+
+            for (TransformerInfo transformer : transformers) {
+                String packageName = transformer.packageName;
+                String className = Tools.FACADE_CLASS_NAME;
+
+                String facadeCanonicalName = String.format("%s.%s", packageName, className);
+                writeTrace(String.format("Generating source file for Facade class with name %s", facadeCanonicalName));
+
+                //The list overloads of the methods with the same name would have the same erasure.
+                Map<String, Integer> methodNamesCount = new HashMap<>();
+                for (MapperInfo mapper : transformer.getMappers()) {
+                    for (String methodName : Arrays.asList(String.format(Tools.FACADE_METHOD_NAME_PATTERN, mapper.linkedClassName), String.format(Tools.FACADE_METHOD_NAME_PATTERN, mapper.className))) {
+                        Integer count = methodNamesCount.get(methodName);
+                        methodNamesCount.put(methodName, count == null ? 1 : count + 1);
+                    }
+                }
+
+                JavaFileObject javaFileObject = processingEnv.getFiler().createSourceFile(facadeCanonicalName);
+                BufferedWriter buffer = new BufferedWriter(javaFileObject.openWriter());
+
+                buffer.append(String.format(Tools.PACKAGE_PATTERN, packageName));
+                buffer.newLine();
+                buffer.newLine();
+                buffer.append("import java.util.ArrayList;");
+                buffer.newLine();
+                buffer.append("import java.util.Collection;");
+                buffer.newLine();
+                buffer.append("import java.util.List;");
+                for (MapperInfo mapper : transformer.getMappers()) {
+                    buffer.newLine();
+                    buffer.append(String.format(Tools.IMPORT_PATTERN, mapper.mapperPackageName, mapper.mapperClassName));
+                }
+                buffer.newLine();
+                buffer.newLine();
+                buffer.append("/**");
+                buffer.newLine();
+                buffer.append(" * Static methods that call the generated mappers directly. These methods do not use the result cache,");
+                buffer.newLine();
+                buffer.append(" * the TransformListener nor the Tracer, use the Transformer when you need them.");
+                buffer.newLine();
+                buffer.append(" */");
+                buffer.newLine();
+                buffer.append(String.format(Tools.FACADE_CLASS_PATTERN, className));
+                buffer.newLine();
+                buffer.append(String.format("\tprivate %s() { }", className));
+
+                for (MapperInfo mapper : transformer.getMappers()) {
+                    String mappableClassName = String.format("%s.%s", mapper.packageName, mapper.className);
+                    String linkedClassName = String.format("%s.%s", mapper.linkedPackageName, mapper.linkedClassName);
+                    String directMethodName = String.format(Tools.FACADE_METHOD_NAME_PATTERN, mapper.linkedClassName);
+                    String inverseMethodName = String.format(Tools.FACADE_METHOD_NAME_PATTERN, mapper.className);
+
+                    generateFacadeMethod(buffer, directMethodName, mappableClassName, linkedClassName, mapper.mapperClassName);
+                    generateFacadeMethod(buffer, inverseMethodName, linkedClassName, mappableClassName, mapper.mapperClassName);
+                    if (methodNamesCount.get(directMethodName) == 1)
+                        generateFacadeListMethod(buffer, directMethodName, mappableClassName, linkedClassName, mapper.mapperClassName);
+                    else
+                        writeFacadeListMethodSkipped(facadeCanonicalName, directMethodName, mappableClassName);
+                    if (methodNamesCount.get(inverseMethodName) == 1)
+                        generateFacadeListMethod(buffer, inverseMethodName, linkedClassName, mappableClassName, mapper.mapperClassName);
+                    else
+                        writeFacadeListMethodSkipped(facadeCanonicalName, inverseMethodName, linkedClassName);
+                }
+
+                buffer.newLine();
+                buffer.append("}");
+                buffer.close();
+            }
+
+        } catch (IOException error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    private void generateFacadeMethod(BufferedWriter buffer, String methodName, String className, String linkedClassName, String mapperClassName) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic static %s %s(%s data) {", linkedClassName, methodName, className));
+        buffer.newLine();
+        buffer.append(String.format("\t\treturn %s.transform(data);", String.format(Tools.MAPPER_INSTANCE_PATTERN, mapperClassName)));
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void writeFacadeListMethodSkipped(String facadeCanonicalName, String methodName, String className) {
+        writeWarning(String.format("The %s.%s(Collection<%s>) method is not generated because several classes are transformed by a method with that name and the list methods would have the same erasure, transform the objects one by one or use the Transformer.", facadeCanonicalName, methodName, className));
+    }
+
+    private void generateFacadeListMethod(BufferedWriter buffer, String methodName, String className, String linkedClassName, String mapperClassName) throws IOException {
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append(String.format("\tpublic static List<%s> %s(Collection<%s> data) {", linkedClassName, methodName, className));
+        buffer.newLine();
+        buffer.append(String.format("\t\tList<%s> result = null;", linkedClassName));
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\tif (data != null) {");
+        buffer.newLine();
+        buffer.append(String.format("\t\t\t%s mapper = %s;", mapperClassName, String.format(Tools.MAPPER_INSTANCE_PATTERN, mapperClassName)));
+        buffer.newLine();
+        buffer.append(String.format("\t\t\tresult = new ArrayList<%s>(data.size());", linkedClassName));
+        buffer.newLine();
+        buffer.append(String.format("\t\t\tfor (%s item : data)", className));
+        buffer.newLine();
+        buffer.append("\t\t\t\tresult.add(mapper.transform(item));");
+        buffer.newLine();
+        buffer.append("\t\t}");
+        buffer.newLine();
+        buffer.newLine();
+        buffer.append("\t\treturn result;");
+        buffer.newLine();
+        buffer.append("\t}");
+    }
+
+    private void generateRegistryJavaFile(Collection<TransformerInfo> transformers) {
+        try {
+
+            List<TransformerInfo> transformersList = new ArrayList<>(transformers);
+            String packageName = transformersList.get(0).packageName;
+            String className = Tools.REGISTRY_CLASS_NAME;
+
+            String registryCanonicalName = String.format("%s.%s", packageName, className);
+            writeTrace(String.format("Generating source file for Registry class with name %s", registryCanonicalName));
+
+            JavaFileObject javaFileObject = processingEnv.getFiler().createSourceFile(registryCanonicalName);
+            BufferedWriter buffer = new BufferedWriter(javaFileObject.openWriter());
+
+            buffer.append(String.format(Tools.PACKAGE_PATTERN, packageName));
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, "AbstractTransformer"));
+            buffer.newLine();
+            buffer.append(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, Tools.REGISTRY_BASE_CLASS_NAME));
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append(String.format(Tools.REGISTRY_CLASS_PATTERN, className));
+
+            //region "Constructor Generation"
+
+            buffer.newLine();
+            buffer.append(String.format("\tpublic %s() {", className));
+            buffer.newLine();
+            buffer.append(String.format("\t\tsuper(%d);", transformersList.size()));
+            buffer.newLine();
+            buffer.append("\t}");
+
+            //endregion
+
+            //region "Types Registration Generation"
+
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append("\t@Override");
+            buffer.newLine();
+            buffer.append("\tprotected void onRegisterTypes() {");
+            for (int index = 0; index < transformersList.size(); index++) {
+                for (MapperInfo mapper : transformersList.get(index).getMappers()) {
+                    buffer.newLine();
+                    buffer.append(String.format("\t\taddType(%s.%s.class, %d);", mapper.packageName, mapper.className, index));
+                    buffer.newLine();
+                    buffer.append(String.format("\t\taddType(%s.%s.class, %d);", mapper.linkedPackageName, mapper.linkedClassName, index));
+                }
+            }
+            buffer.newLine();
+            buffer.append("\t}");
+
+            //endregion
+
+            //region "Transformers Creation Generation"
+
+            buffer.newLine();
+            buffer.newLine();
+            buffer.append("\t@Override");
+            buffer.newLine();
+            buffer.append("\tprotected AbstractTransformer createTransformer(int transformerIndex) {");
+            buffer.newLine();
+            buffer.append("\t\tswitch (transformerIndex) {");
+            for (int index = 0; index < transformersList.size(); index++) {
+                buffer.newLine();
+                buffer.append(String.format("\t\t\tcase %d: return new %s();", index, transformersList.get(index).getFullName()));
+            }
+            buffer.newLine();
+            buffer.append("\t\t\tdefault: throw new IllegalArgumentException(String.format(\"There is not a transformer with the index %d.\", transformerIndex));");
+            buffer.newLine();
+            buffer.append("\t\t}");
+            buffer.newLine();
+            buffer.append("\t}");
+
+            //endregion
+
+            buffer.newLine();
+            buffer.append("}");
+            buffer.close();
+
+            FileObject servicesFileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", Tools.REGISTRY_SERVICES_FILE);
+            BufferedWriter servicesBuffer = new BufferedWriter(servicesFileObject.openWriter());
+            servicesBuffer.append(registryCanonicalName);
+            servicesBuffer.newLine();
+            servicesBuffer.close();
+
+        } catch (IOException error) {
+            throw new RuntimeException(error);
         }
     }
     
@@ -325,7 +1200,9 @@ public class AnnotationsProcessor extends AbstractProcessor {
                     //region "Class Imports Generation"
 
                     buffer.newLine();
-                    buffer.append(String.format(Tools.IMPORT_PATTERN, "com.mobandme.android.transformer.internal", "AbstractTransformer"));
+                    buffer.append(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, "AbstractTransformer"));
+                    buffer.newLine();
+                    buffer.append(String.format(Tools.IMPORT_PATTERN, Tools.RUNTIME_INTERNAL_PACKAGE, "Mapper"));
                     for (MapperInfo mapper : transformer.getMappers()) {
                         buffer.newLine();
                         buffer.append(String.format(Tools.IMPORT_PATTERN, mapper.mapperPackageName, mapper.mapperClassName));
@@ -345,19 +1222,49 @@ public class AnnotationsProcessor extends AbstractProcessor {
                     buffer.append(String.format("\tpublic %s() {", className));
                     buffer.newLine();
                     buffer.append("\t\tsuper();");
+                    buffer.newLine();
+                    buffer.append("\t}");
+
+                    //endregion
 
-                    //region "Variable Inicialization"
+                    //region "Mappers Registration Generation"
 
                     buffer.newLine();
-                    for (MapperInfo mapper : transformer.getMappers()) {
+                    buffer.newLine();
+                    buffer.append("\t@Override");
+                    buffer.newLine();
+                    buffer.append("\tprotected void onRegisterMappers() {");
+                    List<MapperInfo> mappers = transformer.getMappers();
+                    for (int index = 0; index < mappers.size(); index++) {
+                        MapperInfo mapper = mappers.get(index);
                         buffer.newLine();
-                        buffer.append(String.format("\t\taddMapper(\"%s.%s\", new %s());", mapper.packageName, mapper.className, mapper.mapperClassName));
+                        buffer.append(String.format("\t\taddMapper(%s.%s.class, %s.%s.class, %d, %d);", mapper.packageName, mapper.className, mapper.linkedPackageName, mapper.linkedClassName, index, mapper.cacheSize));
                         buffer.newLine();
-                        buffer.append(String.format("\t\taddMapper(\"%s.%s\", new %s());", mapper.linkedPackageName, mapper.linkedClassName, mapper.mapperClassName));
+                        buffer.append(String.format("\t\taddInverseMapper(%s.%s.class, %s.%s.class, %d, %d);", mapper.linkedPackageName, mapper.linkedClassName, mapper.packageName, mapper.className, index, mapper.cacheSize));
                     }
 
+                    buffer.newLine();
+                    buffer.append("\t}");
+
                     //endregion
 
+                    //region "Mappers Creation Generation"
+
+                    buffer.newLine();
+                    buffer.newLine();
+                    buffer.append("\t@Override");
+                    buffer.newLine();
+                    buffer.append("\tprotected Mapper<?, ?> createMapper(int mapperIndex) {");
+                    buffer.newLine();
+                    buffer.append("\t\tswitch (mapperIndex) {");
+                    for (int index = 0; index < mappers.size(); index++) {
+                        buffer.newLine();
+                        buffer.append(String.format("\t\t\tcase %d: return %s;", index, String.format(Tools.MAPPER_INSTANCE_PATTERN, mappers.get(index).mapperClassName)));
+                    }
+                    buffer.newLine();
+                    buffer.append("\t\t\tdefault: return super.createMapper(mapperIndex);");
+                    buffer.newLine();
+                    buffer.append("\t\t}");
                     buffer.newLine();
                     buffer.append("\t}");
 
@@ -385,11 +1292,18 @@ public class AnnotationsProcessor extends AbstractProcessor {
                 AnnotationValue  annotationValue = getAnnotationValue(mappableAnnotationMirror, "with");
                 TypeElement linkedElement = getTypeElement(annotationValue);
 
+                Mappable mappableAnnotation = mappableElement.getAnnotation(Mappable.class);
+                boolean lazy = mappableAnnotation.lazy();
+                if (lazy && (mappableElement.getModifiers().contains(Modifier.FINAL) || linkedElement.getModifiers().contains(Modifier.FINAL))) {
+                    writeError(String.format("The '%s' class cannot be lazy because it or its linked class is final.", mappableElement.asType().toString()));
+                    lazy = false;
+                }
+
                 ClassInfo mappableClassInfo = extractClassInformation(mappableElement);
                 ClassInfo linkedClassInfo = extractClassInformation(linkedElement);
 
                 if (!haveMapper(mappableClassInfo))
-                    createMapper(mappableElement.asType().toString(), mappableClassInfo, linkedClassInfo);
+                    createMapper(mappableElement.asType().toString(), mappableClassInfo, linkedClassInfo, linkedElement, lazy, mappableAnnotation.trackChanges(), Math.max(0, mappableAnnotation.cacheSize()));
             }
         }
     }
@@ -404,7 +1318,7 @@ public class AnnotationsProcessor extends AbstractProcessor {
                 boolean isPublicField = mappedElement.getModifiers().contains(Modifier.PUBLIC);
                 String toFieldName = mappedAnnotation.toField();
 
-                MapperFieldInfo mappingFieldInfo = new MapperFieldInfo(fieldName, fieldType, toFieldName, isPublicField);
+                MapperFieldInfo mappingFieldInfo = new MapperFieldInfo(fieldName, fieldType, mappedElement.asType(), toFieldName, isPublicField);
 
                 ClassInfo classInfo = extractClassInformationFromField(mappedElement);
                 getMapper(classInfo)
@@ -435,6 +1349,10 @@ public class AnnotationsProcessor extends AbstractProcessor {
                     mapperField.originToDestinationParserClassName = originToDestinationParserClass.className;
                     mapperField.destinationToOriginParserPackageName = destinationToOriginParserClass.packageName;
                     mapperField.destinationToOriginParserClassName = destinationToOriginParserClass.className;
+                    mapperField.originToDestinationParserPrimitiveMethod = getPrimitiveParseMethod(originToDestinationValue);
+                    mapperField.destinationToOriginParserPrimitiveMethod = getPrimitiveParseMethod(destinationToOriginValue);
+                    mapperField.originToDestinationParserThreadSafe = isThreadSafeParser(originToDestinationValue);
+                    mapperField.destinationToOriginParserThreadSafe = isThreadSafeParser(destinationToOriginValue);
                 } else {
                     writeError(String.format("You have configured a @Parse annotation without a @Mapped annotation on %s.%s.", ownerClass.getFullName(), fieldName));
                 }
@@ -447,8 +1365,8 @@ public class AnnotationsProcessor extends AbstractProcessor {
         return mappersList.containsKey(mapperClassFullName);
     }
 
-    private MapperInfo createMapper(String mappableClassName, ClassInfo classInfo, ClassInfo linkedClassInfo) {
-        MapperInfo mapper = new MapperInfo(mappableClassName, classInfo.packageName, classInfo.className, linkedClassInfo.packageName, linkedClassInfo.className);
+    private MapperInfo createMapper(String mappableClassName, ClassInfo classInfo, ClassInfo linkedClassInfo, TypeElement linkedElement, boolean lazy, boolean trackChanges, int cacheSize) {
+        MapperInfo mapper = new MapperInfo(mappableClassName, classInfo.packageName, classInfo.className, linkedClassInfo.packageName, linkedClassInfo.className, linkedElement, lazy, trackChanges, cacheSize);
         mappersList.put(mapper.getFullName(), mapper);
         return mapper;
     }
@@ -512,6 +1430,10 @@ public class AnnotationsProcessor extends AbstractProcessor {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message);
     }
     
+    private void writeWarning(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message);
+    }
+
     private void writeTrace(String message) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message);
     }
@@ -554,6 +1476,10 @@ public class AnnotationsProcessor extends AbstractProcessor {
         public final String linkedClassName;
         public final String linkedPackageName;
         public final String mappableClassName;
+        public final TypeElement linkedElement;
+        public final boolean lazy;
+        public final boolean trackChanges;
+        public final int cacheSize;
 
         private List<MapperFieldInfo> mappedFieldsList = new ArrayList<>();
 
@@ -570,9 +1496,13 @@ public class AnnotationsProcessor extends AbstractProcessor {
             return result;
         }
         
-        public MapperInfo(String mappableClassName, String packageName, String className, String linkedPackageName, String linkedClassName) {
+        public MapperInfo(String mappableClassName, String packageName, String className, String linkedPackageName, String linkedClassName, TypeElement linkedElement, boolean lazy, boolean trackChanges, int cacheSize) {
             super(packageName, className);
 
+            this.linkedElement = linkedElement;
+            this.lazy = lazy;
+            this.trackChanges = trackChanges;
+            this.cacheSize = cacheSize;
             this.mappableClassName = mappableClassName;
             this.mapperClassName = String.format(Tools.MAPPER_CLASS_NAME_PATTERN, className);
             this.mapperPackageName = String.format(Tools.MAPPER_PACKAGE_PATTERN, packageName);
@@ -581,19 +1511,96 @@ public class AnnotationsProcessor extends AbstractProcessor {
         }
     }
 
+    private class LazyClassInfo {
+        public final String className;
+        public final String linkedClassName;
+        public final String lazyClassName;
+        public final List<String> eagerFields = new ArrayList<>();
+        public final List<LazyFieldInfo> lazyFields = new ArrayList<>();
+
+        public LazyClassInfo(String className, String linkedClassName) {
+            this.className = className;
+            this.linkedClassName = linkedClassName;
+            this.lazyClassName = String.format(Tools.LAZY_CLASS_NAME_PATTERN, linkedClassName);
+        }
+    }
+
+    private class LazyFieldInfo {
+        public final String fieldName;
+        public final String fieldType;
+        public final String getterName;
+        public final String statement;
+        public final String loadMethodName;
+        public final String loadedVarName;
+
+        public LazyFieldInfo(String fieldName, String fieldType, String getterName, String statement) {
+            this.fieldName = fieldName;
+            this.fieldType = fieldType;
+            this.getterName = getterName;
+            this.statement = statement;
+            this.loadMethodName = String.format(Tools.LAZY_LOAD_METHOD_NAME_PATTERN, fieldName);
+            this.loadedVarName = String.format(Tools.LAZY_LOADED_VAR_PATTERN, toLowerCamelCase(fieldName));
+        }
+    }
+
+    private class ChangedMethodInfo {
+        public final String className;
+        public final String linkedClassName;
+        public final List<TrackedFieldInfo> fields = new ArrayList<>();
+
+        public ChangedMethodInfo(String className, String linkedClassName) {
+            this.className = className;
+            this.linkedClassName = linkedClassName;
+        }
+    }
+
+    private class TrackedFieldInfo {
+        public final String sourceValue;
+        public final String statement;
+
+        public TrackedFieldInfo(String sourceValue, String statement) {
+            this.sourceValue = sourceValue;
+            this.statement = statement;
+        }
+    }
+
+    private class CollectionMethodInfo {
+        public final String kind;
+        public final String methodName;
+        public final String sourceClassName;
+        public final String targetClassName;
+        public final String mapperVar;
+
+        public CollectionMethodInfo(String kind, String sourceClassName, String targetClassName, String mapperVar) {
+            this.kind = kind;
+            this.sourceClassName = sourceClassName;
+            this.targetClassName = targetClassName;
+            this.mapperVar = mapperVar;
+
+            String collectionName = kind.substring(kind.lastIndexOf('.') + 1);
+            this.methodName = String.format(Tools.COLLECTION_METHOD_NAME_PATTERN, targetClassName, toUpperCamelCase(collectionName));
+        }
+    }
+
     private class MapperFieldInfo {
         public final String fieldName;
         public final String fieldType;
+        public final TypeMirror fieldTypeMirror;
         public final String withFieldName;
         public final boolean isPublicField;
         public String originToDestinationParserPackageName;
         public String originToDestinationParserClassName;
         public String destinationToOriginParserPackageName;
         public String destinationToOriginParserClassName;
+        public String originToDestinationParserPrimitiveMethod;
+        public String destinationToOriginParserPrimitiveMethod;
+        public boolean originToDestinationParserThreadSafe;
+        public boolean destinationToOriginParserThreadSafe;
 
-        public MapperFieldInfo(String fieldName, String fieldType, String withFieldName, boolean isPublicField) {
+        public MapperFieldInfo(String fieldName, String fieldType, TypeMirror fieldTypeMirror, String withFieldName, boolean isPublicField) {
             this.fieldName = fieldName;
             this.fieldType = fieldType;
+            this.fieldTypeMirror = fieldTypeMirror;
             this.withFieldName = withFieldName;
             this.isPublicField = isPublicField;
         }
@@ -28,21 +28,51 @@ package com.mobandme.android.transformer.compiler.internal;
 public class Tools {
     public final static String PACKAGE_PATTERN = "package %s;";
     public final static String CLASS_PATTERN = "public class %s {";
+    public final static String MAPPER_CLASS_PATTERN = "public class %s implements Mapper<%s, %s> {";
     public final static String TRANSFORMER_CLASS_NAME = "Transformer";
     public final static String TRANSFORMER_PACKAGE_PATTERN = "%s.transformer";
     public final static String TRANSFORMER_CLASS_PATTERN = "public final class %s extends AbstractTransformer {";
+    public final static String FACADE_CLASS_NAME = "Transformers";
+    public final static String FACADE_CLASS_PATTERN = "public final class %s {";
+    public final static String FACADE_METHOD_NAME_PATTERN = "to%s";
+    public final static String REGISTRY_CLASS_NAME = "TransformerRegistry";
+    public final static String REGISTRY_BASE_CLASS_NAME = "AbstractTransformerRegistry";
+    public final static String REGISTRY_CLASS_PATTERN = "public final class %s extends AbstractTransformerRegistry {";
+    public final static String REGISTRY_SERVICES_FILE = "META-INF/services/com.mobandme.android.transformer.internal.AbstractTransformerRegistry";
     public final static String IMPORT_PATTERN = "import %s.%s;";
+    public final static String RUNTIME_PACKAGE = "com.mobandme.android.transformer";
+    public final static String RUNTIME_INTERNAL_PACKAGE = "com.mobandme.android.transformer.internal";
+    public final static String RUNTIME_PARSER_PACKAGE = "com.mobandme.android.transformer.parser";
+    public final static String THREAD_SAFE_ANNOTATION = RUNTIME_PARSER_PACKAGE + ".ThreadSafe";
+    public final static String PARSE_METHOD_NAME = "parse";
     public final static String MAPPER_PACKAGE_PATTERN = "%s.mapper";
     public final static String MAPPER_CLASS_NAME_PATTERN = "%sMapper";
+    public final static String SELF_MAPPER_VAR = "this";
+    public final static String MAPPER_INSTANCE_PATTERN = "%s.getInstance()";
+    public final static String MAPPER_INSTANCE_HOLDER_CLASS_NAME = "InstanceHolder";
     public final static String MAPPER_CLASS_VAR_CONSTANT_PATTERN = "private final %s %s = new %s();";
+    public final static String COLLECTION_METHOD_NAME_PATTERN = "to%s%s";
+    public final static String ARRAY_KIND = "Array";
+    public final static String LAZY_CLASS_NAME_PATTERN = "Lazy%s";
+    public final static String LAZY_LOAD_METHOD_NAME_PATTERN = "load%s";
+    public final static String LAZY_LOADED_VAR_PATTERN = "%sLoaded";
+    public final static String MAPPER_CLASS_VAR_THREAD_LOCAL_PATTERN = "private final ThreadLocal<%1$s> %2$s = new ThreadLocal<%1$s>() { @Override protected %1$s initialValue() { return new %1$s(); } };";
+    public final static String PARSER_THREAD_LOCAL_VAR_PATTERN = "%sPerThread";
+    public final static String PARSER_THREAD_LOCAL_ACCESS_PATTERN = "%s.get()";
 
     //Public fields
     public final static String MAPPER_FIELD_PATTERN = "result.%s = data.%s;";
-    public final static String MAPPER_FIELD_COMPOSITE_PATTERN = "result.%s = %s.transform(data.%s);";
-    public final static String MAPPER_FIELD_WITH_PARSER_PATTERN = "result.%s = new %s().parse(data.%s);";
+    public final static String MAPPER_FIELD_COMPOSITE_PATTERN = "result.%s = %s.transformInto(data.%s, result.%s, context);";
+    public final static String MAPPER_FIELD_WITH_PARSER_PATTERN = "result.%s = %s.%s(data.%s);";
+    public final static String MAPPER_FIELD_COLLECTION_PATTERN = "result.%s = %s(data.%s, context);";
+    public final static String TRACKED_FIELD_PATTERN = "data.%s";
+    public final static String MAPPER_FIELD_UNBOXING_PATTERN = "result.%s = Primitives.unbox(data.%s);";
 
     //Getter and Setter
     public final static String MAPPER_STANDARD_FIELD_PATTERN = "result.set%s(data.%s());";
-    public final static String MAPPER_STANDARD_FIELD_COMPOSITE_PATTERN = "result.set%s(%s.transform(data.%s()));";
-    public final static String MAPPER_STANDARD_FIELD_WITH_PARSER_PATTERN = "result.set%s(new %s().parse(data.%s()));";
+    public final static String MAPPER_STANDARD_FIELD_COMPOSITE_PATTERN = "result.set%s(%s.transformInto(data.%s(), result.%s(), context));";
+    public final static String MAPPER_STANDARD_FIELD_WITH_PARSER_PATTERN = "result.set%s(%s.%s(data.%s()));";
+    public final static String MAPPER_STANDARD_FIELD_COLLECTION_PATTERN = "result.set%s(%s(data.%s(), context));";
+    public final static String TRACKED_STANDARD_FIELD_PATTERN = "data.%s()";
+    public final static String MAPPER_STANDARD_FIELD_UNBOXING_PATTERN = "result.set%s(Primitives.unbox(data.%s()));";
 }
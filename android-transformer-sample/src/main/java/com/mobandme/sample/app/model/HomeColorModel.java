@@ -28,7 +28,7 @@ import com.mobandme.android.transformer.compiler.Mappable;
 import com.mobandme.android.transformer.compiler.Mapped;
 import com.mobandme.sample.app.domain.HomeColor;
 
-@Mappable( with = HomeColor.class)
+@Mappable( with = HomeColor.class )
 public class HomeColorModel {
     @Mapped private String colorName;
     @Mapped private String colorHex;
@@ -35,7 +35,7 @@ import com.mobandme.sample.app.model.parser.StringToCalendarParser;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 
-@Mappable( with = Home.class)
+@Mappable( with = Home.class, trackChanges = true )
 public class HomeModel {
     
     @Mapped(toField = "PostalAddress") public String Address;
@@ -46,7 +46,7 @@ public class HomeModel {
 
     @Parse(
         originToDestinationWith = CalendarToStringParser.class,
-        destinationToOriginWith = StringToCalendarParser.class 
+        destinationToOriginWith = StringToCalendarParser.class
     )
     @Mapped public Calendar Date;
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.sample.app.model;
+
+import com.mobandme.android.transformer.compiler.Mappable;
+import com.mobandme.android.transformer.compiler.Mapped;
+import com.mobandme.android.transformer.compiler.Parse;
+import com.mobandme.android.transformer.parser.DoubleToStringParser;
+import com.mobandme.android.transformer.parser.IntToStringParser;
+import com.mobandme.android.transformer.parser.LongToStringParser;
+import com.mobandme.android.transformer.parser.StringToDoubleParser;
+import com.mobandme.android.transformer.parser.StringToIntParser;
+import com.mobandme.android.transformer.parser.StringToLongParser;
+import com.mobandme.sample.app.domain.HomeStats;
+
+@Mappable( with = HomeStats.class )
+public class HomeStatsModel {
+
+    @Parse(
+        originToDestinationWith = StringToIntParser.class,
+        destinationToOriginWith = IntToStringParser.class
+    )
+    @Mapped public String Rooms;
+
+    @Parse(
+        originToDestinationWith = StringToLongParser.class,
+        destinationToOriginWith = LongToStringParser.class
+    )
+    @Mapped public String Price;
+
+    @Parse(
+        originToDestinationWith = StringToDoubleParser.class,
+        destinationToOriginWith = DoubleToStringParser.class
+    )
+    @Mapped public String Surface;
+
+    @Mapped public Integer Floor;
+}
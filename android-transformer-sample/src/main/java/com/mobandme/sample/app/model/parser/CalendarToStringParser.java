@@ -5,10 +5,10 @@ import java.util.Calendar;
 import com.mobandme.android.transformer.parser.AbstractParser;
 
 public class CalendarToStringParser extends AbstractParser<Calendar, String> {
+    private final SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd");
     
     @Override
     protected String onParse(Calendar value) {
-        SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd");
         return dateFormatter.format(value.getTime());
     }
 }
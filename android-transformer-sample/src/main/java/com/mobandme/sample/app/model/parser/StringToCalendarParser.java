@@ -8,12 +8,13 @@ import java.util.Calendar;
 import java.util.GregorianCalendar;
 
 public class StringToCalendarParser extends AbstractParser<String, Calendar> {
+    private final SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd");
+
     @Override
     protected Calendar onParse(String value) {
         Calendar calendar = GregorianCalendar.getInstance();
         
         try {
-            SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd");
             calendar.setTime(dateFormatter.parse(value));
         } catch (ParseException e) { }
         
@@ -0,0 +1,183 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.data.entity.HomeEntity;
+import com.mobandme.sample.app.data.entity.mapper.HomeEntityMapper;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.domain.HomeColor;
+import com.mobandme.sample.app.model.HomeColorModel;
+import com.mobandme.sample.app.model.HomeModel;
+import com.mobandme.sample.app.model.HomeStatsModel;
+import com.mobandme.sample.app.model.mapper.HomeColorModelMapper;
+import com.mobandme.sample.app.model.mapper.HomeModelMapper;
+import com.mobandme.sample.app.model.mapper.HomeStatsModelMapper;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks the bytes allocated by each transformation, so the changes that add hidden allocations to the
+ * generated mappers or to the Transformer make the build fail. The budgets include the transformed objects
+ * and, for HomeModel, the work of the date parsers. The budget of HomeStatsModel only leaves room for HomeStats and
+ * Double.parseDouble, so boxing any of its primitive fields makes the test fail.
+ */
+public class AllocationTest extends BaseTest {
+    private static final int WARM_UP_ITERATIONS = 20000;
+    private static final int ITERATIONS = 10000;
+
+    private static final long HOME_BUDGET = 64;
+    private static final long HOME_COLOR_BUDGET = 32;
+    private static final long HOME_STATS_BUDGET = 104;
+    private static final long PARSED_HOME_BUDGET = 1024;
+    private static final long PARSED_HOME_MODEL_BUDGET = 2048;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private Object lastResult;
+
+    @Override
+    public void setup() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        threadBean = (com.sun.management.ThreadMXBean)bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void homeModelMapperStaysOnBudget() {
+        final HomeModelMapper mapper = new HomeModelMapper();
+        final HomeModel homeModel = newHomeModel();
+        final Home home = mapper.transform(homeModel);
+
+        assertOnBudget("HomeModel -> Home", PARSED_HOME_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(homeModel); }
+        });
+        assertOnBudget("Home -> HomeModel", PARSED_HOME_MODEL_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(home); }
+        });
+    }
+
+    @Test
+    public void homeColorModelMapperStaysOnBudget() {
+        final HomeColorModelMapper mapper = new HomeColorModelMapper();
+        final HomeColorModel homeColorModel = newHomeModel().HomeColor;
+        final HomeColor homeColor = mapper.transform(homeColorModel);
+
+        assertOnBudget("HomeColorModel -> HomeColor", HOME_COLOR_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(homeColorModel); }
+        });
+        assertOnBudget("HomeColor -> HomeColorModel", HOME_COLOR_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(homeColor); }
+        });
+    }
+
+    @Test
+    public void homeEntityMapperStaysOnBudget() {
+        final HomeEntityMapper mapper = new HomeEntityMapper();
+        final HomeEntity homeEntity = newHomeEntity();
+        final Home home = mapper.transform(homeEntity);
+
+        assertOnBudget("HomeEntity -> Home", HOME_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(homeEntity); }
+        });
+        assertOnBudget("Home -> HomeEntity", HOME_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(home); }
+        });
+    }
+
+    @Test
+    public void homeStatsModelMapperDoesNotBox() {
+        final HomeStatsModelMapper mapper = new HomeStatsModelMapper();
+        final HomeStatsModel homeStatsModel = new HomeStatsModel();
+        homeStatsModel.Rooms = "1200";
+        homeStatsModel.Price = "3000000000";
+        homeStatsModel.Surface = "92.5";
+        homeStatsModel.Floor = 1300;
+
+        assertOnBudget("HomeStatsModel -> HomeStats", HOME_STATS_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = mapper.transform(homeStatsModel); }
+        });
+    }
+
+    @Test
+    public void transformerStaysOnBudget() {
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(HomeEntity.class);
+        final HomeEntity homeEntity = newHomeEntity();
+
+        assertOnBudget("Transformer HomeEntity -> Home", HOME_BUDGET, new Runnable() {
+            @Override public void run() { lastResult = transformer.transform(homeEntity, Home.class); }
+        });
+    }
+
+    private void assertOnBudget(String name, long bytesPerTransform, Runnable transform) {
+        for (int iteration = 0; iteration < WARM_UP_ITERATIONS; iteration++)
+            transform.run();
+
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+            transform.run();
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        long measuredBytesPerTransform = allocatedBytes / ITERATIONS;
+        assertTrue(String.format("%s allocates %d bytes per transformation, the budget is %d bytes.", name, measuredBytesPerTransform, bytesPerTransform),
+                measuredBytesPerTransform <= bytesPerTransform);
+    }
+
+    private HomeModel newHomeModel() {
+        HomeColorModel homeColorModel = new HomeColorModel();
+        homeColorModel.setColorName("Red");
+        homeColorModel.setColorHex("#FF0000");
+
+        HomeModel homeModel = new HomeModel();
+        homeModel.Address = "Avenida Libertad 1";
+        homeModel.City = "Bilbao";
+        homeModel.PostalCode = "48001";
+        homeModel.Country = "Spain";
+        homeModel.Date = new GregorianCalendar(2015, Calendar.MARCH, 1);
+        homeModel.HomeColor = homeColorModel;
+        return homeModel;
+    }
+
+    private HomeEntity newHomeEntity() {
+        HomeEntity homeEntity = new HomeEntity();
+        homeEntity.Address = "Avenida Libertad 1";
+        homeEntity.City = "Bilbao";
+        homeEntity.PostalCode = "48001";
+        homeEntity.Country = "Spain";
+        homeEntity.Date = "2015-03-01";
+        return homeEntity;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.CacheStatistics;
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.Country;
+import com.mobandme.sample.app.model.CountryModel;
+import com.mobandme.sample.app.model.CountryNameModel;
+import com.mobandme.sample.app.model.HomeModel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CountryModelTest extends BaseTest {
+    public static final String SPAIN_CODE = "ES";
+    public static final String SPAIN_NAME = "Spain";
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(CountryModel.class);
+        transformer.clearCaches();
+    }
+
+    @Test
+    public void canCacheTransformedObjects() {
+        CountryModel spain = new CountryModel(SPAIN_CODE, SPAIN_NAME);
+        CountryModel france = new CountryModel("FR", "France");
+        CountryModel italy = new CountryModel("IT", "Italy");
+
+        Country firstResult = transformer.transform(spain, Country.class);
+
+        assertSame(firstResult, transformer.transform(spain, Country.class));
+        assertNotSame(firstResult, transformer.transform(france, Country.class));
+        assertEquals(SPAIN_NAME, firstResult.getName());
+
+        transformer.transform(italy, Country.class);
+        transformer.transform(france, Country.class);
+        assertNotSame(firstResult, transformer.transform(spain, Country.class));
+
+        CacheStatistics statistics = transformer.getCacheStatistics(CountryModel.class);
+        assertEquals(2, statistics.getMaxSize());
+        assertEquals(2, statistics.getSize());
+        assertTrue(statistics.getHitCount() >= 2);
+        assertTrue(statistics.getEvictionCount() >= 2);
+        assertNull(transformer.getCacheStatistics(HomeModel.class));
+    }
+
+    @Test
+    public void canCacheEachDirectionSeparately() {
+        CountryModel spain = new CountryModel(SPAIN_CODE, SPAIN_NAME);
+        CountryModel france = new CountryModel("FR", "France");
+        Country spainResult = transformer.transform(spain, Country.class);
+        transformer.transform(france, Country.class);
+
+        Country italy = new Country();
+        italy.setCode("IT");
+        Country portugal = new Country();
+        portugal.setCode("PT");
+        transformer.transform(italy, CountryModel.class);
+        transformer.transform(portugal, CountryModel.class);
+
+        assertSame(spainResult, transformer.transform(spain, Country.class));
+        assertEquals(2, transformer.getCacheStatistics(CountryModel.class).getSize());
+        assertEquals(2, transformer.getCacheStatistics(Country.class).getSize());
+        assertEquals(0, transformer.getCacheStatistics(CountryModel.class).getEvictionCount());
+    }
+
+    @Test
+    public void canCacheEachLinkedTypeOfSameSource() {
+        Country spain = new Country();
+        spain.setCode(SPAIN_CODE);
+        spain.setName(SPAIN_NAME);
+
+        CountryModel countryModel = transformer.transform(spain, CountryModel.class);
+        CountryNameModel countryNameModel = transformer.transform(spain, CountryNameModel.class);
+
+        assertSame(countryModel, transformer.transform(spain, CountryModel.class));
+        assertSame(countryNameModel, transformer.transform(spain, CountryNameModel.class));
+        assertEquals(SPAIN_NAME, countryNameModel.getName());
+
+        CacheStatistics statistics = transformer.getCacheStatistics(Country.class);
+        assertEquals(4, statistics.getMaxSize());
+        assertEquals(2, statistics.getSize());
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+
+        transformer.clearCaches();
+
+        assertEquals(0, transformer.getCacheStatistics(Country.class).getSize());
+        assertNotSame(countryModel, transformer.transform(spain, CountryModel.class));
+        assertNotSame(countryNameModel, transformer.transform(spain, CountryNameModel.class));
+    }
+}
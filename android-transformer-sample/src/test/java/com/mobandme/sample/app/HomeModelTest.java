@@ -24,19 +24,29 @@
  */
 package com.mobandme.sample.app;
 
+import com.mobandme.android.transformer.ChangeTracker;
+import com.mobandme.android.transformer.MappingContext;
 import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.data.entity.HomeEntity;
 import com.mobandme.sample.app.domain.Home;
 import com.mobandme.sample.app.domain.HomeColor;
 import com.mobandme.sample.app.model.HomeColorModel;
 import com.mobandme.sample.app.model.HomeModel;
+import com.mobandme.sample.app.model.transformer.Transformers;
 import org.junit.Test;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class HomeModelTest extends BaseTest {
     public static final String STREET_VALUE = "My Street, 65, 3";
@@ -70,6 +80,64 @@ public class HomeModelTest extends BaseTest {
         assertNotNull(transformer);
     }
 
+    @Test
+    public void canTransformWithLinkedClassTransformer() {
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(Home.class);
+        HomeModel homeModel = new HomeModel();
+        homeModel.City = CITY_VALUE;
+        homeModel.Date = DATE_VALUE;
+        HomeEntity homeEntity = new HomeEntity();
+        homeEntity.Country = COUNTRY_VALUE;
+
+        assertEquals(CITY_VALUE, transformer.transform(homeModel, Home.class).City);
+        assertEquals(COUNTRY_VALUE, transformer.transform(homeEntity, Home.class).Country);
+    }
+
+    @Test
+    public void canChooseLinkedClassByExpectedReturnType() {
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(Home.class);
+        Home home = new Home();
+        home.City = CITY_VALUE;
+        home.Date = "2015-01-01";
+
+        HomeModel homeModel = transformer.transform(home, HomeModel.class);
+        HomeEntity homeEntity = transformer.transform(home, HomeEntity.class);
+        List<HomeModel> homeModels = transformer.transformAll(Arrays.asList(home, null), HomeModel.class);
+
+        assertEquals(CITY_VALUE, homeModel.City);
+        assertEquals(CITY_VALUE, homeEntity.City);
+        assertEquals(CITY_VALUE, homeModels.get(0).City);
+        assertNull(homeModels.get(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotTransformAmbiguousLinkedClass() {
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(Home.class);
+
+        transformer.transform(new Home());
+    }
+
+    @Test
+    public void canTransformWithFacade() {
+        HomeModel homeModel = new HomeModel();
+        homeModel.City = CITY_VALUE;
+        homeModel.Date = DATE_VALUE;
+
+        Home home = Transformers.toHome(homeModel);
+        List<HomeModel> homeModels = Transformers.toHomeModel(Arrays.asList(home, home));
+
+        assertEquals(CITY_VALUE, home.City);
+        assertEquals(2, homeModels.size());
+        assertEquals(CITY_VALUE, homeModels.get(1).City);
+        assertNull(Transformers.toHome((HomeModel)null));
+    }
+
     @Test
     public void canTransformForward() {
         HomeModel homeModel = new HomeModel();
@@ -152,4 +220,121 @@ public class HomeModelTest extends BaseTest {
         assertNotNull(homeModel);
         assertEquals(expectedValue, DATE_AS_STRING_VALUE);
     }
+
+    @Test
+    public void canTransformAll() {
+        HomeModel homeModel = new HomeModel();
+        homeModel.City = CITY_VALUE;
+        homeModel.Date = DATE_VALUE;
+        Home home = new Home();
+        home.City = CITY_VALUE;
+        home.Date = DATE_AS_STRING_VALUE;
+
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(HomeModel.class);
+        List<Object> result = transformer.transformAll(Arrays.asList(homeModel, homeModel, null, home));
+
+        assertEquals(4, result.size());
+        assertTrue(result.get(0) instanceof Home);
+        assertEquals(((Home)result.get(1)).City, CITY_VALUE);
+        assertNull(result.get(2));
+        assertTrue(result.get(3) instanceof HomeModel);
+        assertEquals(((HomeModel)result.get(3)).City, CITY_VALUE);
+    }
+
+    @Test
+    public void canTransformAllInParallel() {
+        List<HomeModel> homeModels = new ArrayList<>();
+        for (int index = 0; index < Transformer.PARALLEL_THRESHOLD * 4; index++) {
+            HomeModel homeModel = new HomeModel();
+            homeModel.City = String.valueOf(index);
+            homeModel.Date = DATE_VALUE;
+            homeModels.add(homeModel);
+        }
+
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(HomeModel.class);
+        List<Home> result = transformer.transformAllParallel(homeModels, Home.class);
+
+        assertEquals(homeModels.size(), result.size());
+        for (int index = 0; index < result.size(); index++)
+            assertEquals(result.get(index).City, String.valueOf(index));
+    }
+
+    @Test
+    public void canTransformIntoExistingInstance() {
+        HomeModel homeModel = new HomeModel();
+        homeModel.City = CITY_VALUE;
+        homeModel.Date = DATE_VALUE;
+        homeModel.HomeColor = new HomeColorModel();
+        homeModel.HomeColor.setColorHex(COLOR_HEX_VALUE);
+        Home home = new Home();
+        HomeColor homeColor = new HomeColor();
+        home.HomeColor = homeColor;
+
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(HomeModel.class);
+        Home result = transformer.transformInto(homeModel, home);
+
+        assertSame(home, result);
+        assertSame(homeColor, result.HomeColor);
+        assertEquals(result.City, CITY_VALUE);
+        assertEquals(result.HomeColor.getColorHex(), COLOR_HEX_VALUE);
+    }
+
+    @Test
+    public void canTransformSharedObjectsOnce() {
+        HomeColorModel homeColorModel = new HomeColorModel();
+        homeColorModel.setColorName(COLOR_NAME_VALUE);
+        HomeModel firstHomeModel = new HomeModel();
+        firstHomeModel.Date = DATE_VALUE;
+        firstHomeModel.HomeColor = homeColorModel;
+        HomeModel secondHomeModel = new HomeModel();
+        secondHomeModel.Date = DATE_VALUE;
+        secondHomeModel.HomeColor = homeColorModel;
+
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(HomeModel.class);
+        MappingContext context = new MappingContext();
+        List<Home> result = transformer.transformAll(Arrays.asList(firstHomeModel, secondHomeModel, firstHomeModel), Home.class, context);
+
+        assertSame(result.get(0).HomeColor, result.get(1).HomeColor);
+        assertSame(result.get(0), result.get(2));
+        assertEquals(result.get(0).HomeColor.getColorName(), COLOR_NAME_VALUE);
+        assertEquals(3, context.size());
+    }
+
+    @Test
+    public void canTransformOnlyChangedFields() {
+        HomeModel homeModel = new HomeModel();
+        homeModel.City = CITY_VALUE;
+        homeModel.Country = COUNTRY_VALUE;
+        homeModel.Date = DATE_VALUE;
+
+        final Transformer transformer = new Transformer
+                                                .Builder()
+                                                .build(HomeModel.class);
+        ChangeTracker tracker = new ChangeTracker();
+        Home home = transformer.transformChanged(homeModel, new Home(), tracker);
+
+        assertEquals(CITY_VALUE, home.City);
+        assertEquals(COUNTRY_VALUE, home.Country);
+
+        home.Country = null;
+        homeModel.City = STREET_VALUE;
+        Home result = transformer.transformChanged(homeModel, home, tracker);
+
+        assertSame(home, result);
+        assertEquals(STREET_VALUE, home.City);
+        assertNull(home.Country);
+
+        tracker.reset();
+        transformer.transformChanged(homeModel, home, tracker);
+
+        assertEquals(COUNTRY_VALUE, home.Country);
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.HomeStats;
+import com.mobandme.sample.app.model.HomeStatsModel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class HomeStatsModelTest extends BaseTest {
+    public static final String ROOMS_VALUE = "4";
+    public static final String PRICE_VALUE = "3000000000";
+    public static final String SURFACE_VALUE = "92.5";
+    public static final Integer FLOOR_VALUE = 3;
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(HomeStatsModel.class);
+    }
+
+    @Test
+    public void canTransformPrimitiveFieldsForward() {
+        HomeStats homeStats = transformer.transform(newHomeStatsModel(), HomeStats.class);
+
+        assertEquals(4, homeStats.Rooms);
+        assertEquals(3000000000L, homeStats.Price);
+        assertEquals(92.5, homeStats.Surface, 0);
+        assertEquals(3, homeStats.Floor);
+    }
+
+    @Test
+    public void canTransformPrimitiveFieldsReverse() {
+        HomeStatsModel homeStatsModel = transformer.transform(transformer.transform(newHomeStatsModel(), HomeStats.class), HomeStatsModel.class);
+
+        assertEquals(ROOMS_VALUE, homeStatsModel.Rooms);
+        assertEquals(PRICE_VALUE, homeStatsModel.Price);
+        assertEquals(SURFACE_VALUE, homeStatsModel.Surface);
+        assertEquals(FLOOR_VALUE, homeStatsModel.Floor);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void cannotParseNullToPrimitiveField() {
+        HomeStatsModel homeStatsModel = newHomeStatsModel();
+        homeStatsModel.Rooms = null;
+
+        transformer.transform(homeStatsModel, HomeStats.class);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void cannotUnboxNullToPrimitiveField() {
+        HomeStatsModel homeStatsModel = newHomeStatsModel();
+        homeStatsModel.Floor = null;
+
+        transformer.transform(homeStatsModel, HomeStats.class);
+    }
+
+    private HomeStatsModel newHomeStatsModel() {
+        HomeStatsModel homeStatsModel = new HomeStatsModel();
+        homeStatsModel.Rooms = ROOMS_VALUE;
+        homeStatsModel.Price = PRICE_VALUE;
+        homeStatsModel.Surface = SURFACE_VALUE;
+        homeStatsModel.Floor = FLOOR_VALUE;
+        return homeStatsModel;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.HomeColor;
+import com.mobandme.sample.app.domain.Listing;
+import com.mobandme.sample.app.model.HomeColorModel;
+import com.mobandme.sample.app.model.ListingModel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ListingModelTest extends BaseTest {
+    public static final String TITLE_VALUE = "Flat in the city center";
+    public static final String PRICE_VALUE = "250000";
+    public static final String COLOR_NAME = "Red";
+    public static final String COLOR_HEX = "#FF0000";
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(ListingModel.class);
+    }
+
+    @Test
+    public void canLoadParsedFieldOnFirstAccess() {
+        ListingModel listingModel = newListingModel();
+        Listing listing = transformer.transformLazy(listingModel, Listing.class);
+
+        assertNotSame(Listing.class, listing.getClass());
+
+        listingModel.setPrice("300000");
+        assertEquals(300000, listing.getPrice());
+
+        listingModel.setPrice("400000");
+        assertEquals(300000, listing.getPrice());
+    }
+
+    @Test
+    public void canLoadCompositeFieldOnFirstAccess() {
+        ListingModel listingModel = newListingModel();
+        Listing listing = transformer.transformLazy(listingModel, Listing.class);
+
+        HomeColorModel homeColorModel = newHomeColorModel();
+        homeColorModel.setColorName("Blue");
+        listingModel.setColor(homeColorModel);
+
+        HomeColor homeColor = listing.getColor();
+        assertEquals("Blue", homeColor.getColorName());
+        assertEquals(COLOR_HEX, homeColor.getColorHex());
+        assertSame(homeColor, listing.getColor());
+    }
+
+    @Test
+    public void canLoadFieldAgainAfterFailure() {
+        ListingModel listingModel = newListingModel();
+        listingModel.setPrice("unknown");
+        Listing listing = transformer.transformLazy(listingModel, Listing.class);
+
+        try {
+            listing.getPrice();
+            fail("The price cannot be parsed.");
+        } catch (NumberFormatException e) { }
+
+        listingModel.setPrice(PRICE_VALUE);
+        assertEquals(250000, listing.getPrice());
+    }
+
+    @Test
+    public void canSetFieldBeforeFirstAccess() {
+        Listing listing = transformer.transformLazy(newListingModel(), Listing.class);
+
+        listing.setTitle("Sold");
+        assertEquals("Sold", listing.getTitle());
+    }
+
+    private ListingModel newListingModel() {
+        ListingModel listingModel = new ListingModel();
+        listingModel.setTitle(TITLE_VALUE);
+        listingModel.setPrice(PRICE_VALUE);
+        listingModel.setColor(newHomeColorModel());
+        return listingModel;
+    }
+
+    private HomeColorModel newHomeColorModel() {
+        HomeColorModel homeColorModel = new HomeColorModel();
+        homeColorModel.setColorName(COLOR_NAME);
+        homeColorModel.setColorHex(COLOR_HEX);
+        return homeColorModel;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.HomeColor;
+import com.mobandme.sample.app.domain.Palette;
+import com.mobandme.sample.app.model.HomeColorModel;
+import com.mobandme.sample.app.model.PaletteModel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PaletteModelTest extends BaseTest {
+    public static final String RED_NAME = "Red";
+    public static final String RED_HEX = "#FF0000";
+    public static final String BLUE_NAME = "Blue";
+    public static final String BLUE_HEX = "#0000FF";
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(PaletteModel.class);
+    }
+
+    @Test
+    public void canTransformList() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorList = Arrays.asList(newRed(), null, newBlue());
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(3, palette.ColorList.size());
+        assertColor(RED_NAME, RED_HEX, palette.ColorList.get(0));
+        assertNull(palette.ColorList.get(1));
+        assertColor(BLUE_NAME, BLUE_HEX, palette.ColorList.get(2));
+    }
+
+    @Test
+    public void canTransformSequentialList() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorList = new LinkedList<>(Arrays.asList(newRed(), null, newBlue()));
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(3, palette.ColorList.size());
+        assertColor(RED_NAME, RED_HEX, palette.ColorList.get(0));
+        assertNull(palette.ColorList.get(1));
+        assertColor(BLUE_NAME, BLUE_HEX, palette.ColorList.get(2));
+    }
+
+    @Test
+    public void canTransformSet() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorSet = new LinkedHashSet<>(Arrays.asList(newRed(), null, newBlue()));
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(3, palette.ColorSet.size());
+        Iterator<HomeColor> iterator = palette.ColorSet.iterator();
+        assertColor(RED_NAME, RED_HEX, iterator.next());
+        assertNull(iterator.next());
+        assertColor(BLUE_NAME, BLUE_HEX, iterator.next());
+    }
+
+    @Test
+    public void canTransformCollection() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorCollection = new ArrayList<>(Arrays.asList(newRed(), null, newBlue()));
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(3, palette.ColorCollection.size());
+        Iterator<HomeColor> iterator = palette.ColorCollection.iterator();
+        assertColor(RED_NAME, RED_HEX, iterator.next());
+        assertNull(iterator.next());
+        assertColor(BLUE_NAME, BLUE_HEX, iterator.next());
+    }
+
+    @Test
+    public void canTransformMap() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorMap = new LinkedHashMap<>();
+        paletteModel.ColorMap.put(RED_NAME, newRed());
+        paletteModel.ColorMap.put("None", null);
+        paletteModel.ColorMap.put(BLUE_NAME, newBlue());
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(3, palette.ColorMap.size());
+        assertColor(RED_NAME, RED_HEX, palette.ColorMap.get(RED_NAME));
+        assertTrue(palette.ColorMap.containsKey("None"));
+        assertNull(palette.ColorMap.get("None"));
+        assertColor(BLUE_NAME, BLUE_HEX, palette.ColorMap.get(BLUE_NAME));
+    }
+
+    @Test
+    public void canTransformArray() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorArray = new HomeColorModel[] { newRed(), null, newBlue() };
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(3, palette.ColorArray.length);
+        assertColor(RED_NAME, RED_HEX, palette.ColorArray[0]);
+        assertNull(palette.ColorArray[1]);
+        assertColor(BLUE_NAME, BLUE_HEX, palette.ColorArray[2]);
+    }
+
+    @Test
+    public void canTransformConcreteCollections() {
+        PaletteModel paletteModel = new PaletteModel();
+        paletteModel.ColorArrayList = new ArrayList<>(Arrays.asList(newRed(), null));
+        paletteModel.ColorHashMap = new HashMap<>();
+        paletteModel.ColorHashMap.put(BLUE_NAME, newBlue());
+        paletteModel.ColorHashMap.put("None", null);
+
+        Palette palette = transformer.transform(paletteModel, Palette.class);
+
+        assertEquals(2, palette.ColorArrayList.size());
+        assertColor(RED_NAME, RED_HEX, palette.ColorArrayList.get(0));
+        assertNull(palette.ColorArrayList.get(1));
+        assertEquals(2, palette.ColorHashMap.size());
+        assertColor(BLUE_NAME, BLUE_HEX, palette.ColorHashMap.get(BLUE_NAME));
+        assertNull(palette.ColorHashMap.get("None"));
+    }
+
+    @Test
+    public void canTransformCollectionsReverse() {
+        Palette palette = new Palette();
+        palette.ColorList = Arrays.asList(newRedColor(), null);
+        palette.ColorArray = new HomeColor[] { null, newRedColor() };
+
+        PaletteModel paletteModel = transformer.transform(palette, PaletteModel.class);
+
+        assertEquals(2, paletteModel.ColorList.size());
+        assertEquals(RED_NAME, paletteModel.ColorList.get(0).getColorName());
+        assertNull(paletteModel.ColorList.get(1));
+        assertEquals(2, paletteModel.ColorArray.length);
+        assertNull(paletteModel.ColorArray[0]);
+        assertEquals(RED_HEX, paletteModel.ColorArray[1].getColorHex());
+    }
+
+    @Test
+    public void canKeepNullCollections() {
+        Palette palette = transformer.transform(new PaletteModel(), Palette.class);
+
+        assertNotNull(palette);
+        assertNull(palette.ColorList);
+        assertNull(palette.ColorSet);
+        assertNull(palette.ColorCollection);
+        assertNull(palette.ColorMap);
+        assertNull(palette.ColorArray);
+        assertNull(palette.ColorArrayList);
+        assertNull(palette.ColorHashMap);
+    }
+
+    private void assertColor(String colorName, String colorHex, HomeColor homeColor) {
+        assertNotNull(homeColor);
+        assertEquals(colorName, homeColor.getColorName());
+        assertEquals(colorHex, homeColor.getColorHex());
+    }
+
+    private HomeColorModel newRed() {
+        HomeColorModel homeColorModel = new HomeColorModel();
+        homeColorModel.setColorName(RED_NAME);
+        homeColorModel.setColorHex(RED_HEX);
+        return homeColorModel;
+    }
+
+    private HomeColorModel newBlue() {
+        HomeColorModel homeColorModel = new HomeColorModel();
+        homeColorModel.setColorName(BLUE_NAME);
+        homeColorModel.setColorHex(BLUE_HEX);
+        return homeColorModel;
+    }
+
+    private HomeColor newRedColor() {
+        HomeColor homeColor = new HomeColor();
+        homeColor.setColorName(RED_NAME);
+        homeColor.setColorHex(RED_HEX);
+        return homeColor;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.parser.CalendarToIsoStringParser;
+import com.mobandme.android.transformer.parser.EnumToStringParser;
+import com.mobandme.android.transformer.parser.IntToStringParser;
+import com.mobandme.android.transformer.parser.Iso8601;
+import com.mobandme.android.transformer.parser.IsoStringToCalendarParser;
+import com.mobandme.android.transformer.parser.IsoStringToMillisParser;
+import com.mobandme.android.transformer.parser.StringToEnumParser;
+import com.mobandme.android.transformer.parser.StringToIntParser;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ParsersTest extends BaseTest {
+    public static final String DATE_AS_STRING_VALUE = "1980-08-23";
+    public static final String DATE_TIME_AS_STRING_VALUE = "1980-08-23T10:15:30.250Z";
+
+    enum Color { RED, GREEN }
+
+    public static class StringToColorParser extends StringToEnumParser<Color> {
+        public StringToColorParser() { super(Color.class); }
+    }
+
+    private SimpleDateFormat utcDateFormatter;
+
+    @Override
+    public void setup() {
+        utcDateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        utcDateFormatter.setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    @Test
+    public void canParseIsoDates() throws Exception {
+        assertEquals(utcDateFormatter.parse("1980-08-23T00:00:00.000Z").getTime(), Iso8601.parseMillis(DATE_AS_STRING_VALUE));
+        assertEquals(utcDateFormatter.parse(DATE_TIME_AS_STRING_VALUE).getTime(), Iso8601.parseMillis(DATE_TIME_AS_STRING_VALUE));
+        assertEquals(utcDateFormatter.parse("1980-08-23T08:15:30.000Z").getTime(), Iso8601.parseMillis("1980-08-23T10:15:30+02:00"));
+        assertEquals(utcDateFormatter.parse("2000-02-29T23:59:00.000Z").getTime(), Iso8601.parseMillis("2000-02-29T23:59"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotParseInvalidIsoDates() {
+        Iso8601.parseMillis("1981-02-29");
+    }
+
+    @Test
+    public void canFormatIsoDates() throws Exception {
+        long millis = utcDateFormatter.parse(DATE_TIME_AS_STRING_VALUE).getTime();
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT-03:30"));
+        calendar.setTimeInMillis(millis);
+
+        assertEquals(DATE_TIME_AS_STRING_VALUE, Iso8601.formatMillis(millis));
+        assertEquals("1980-08-23T06:45:30.250-03:30", new CalendarToIsoStringParser().parse(calendar));
+        assertEquals(millis, Iso8601.parseMillis(Iso8601.formatCalendar(calendar)));
+        assertEquals("1969-12-31T23:59:59.999Z", Iso8601.formatMillis(-1));
+        assertEquals(TimeUnit.DAYS.toMillis(1), Iso8601.parseMillis("1970-01-02"));
+    }
+
+    @Test
+    public void canRoundTripCalendars() {
+        Calendar calendar = new IsoStringToCalendarParser().parse(DATE_AS_STRING_VALUE);
+
+        assertEquals(23, calendar.get(Calendar.DAY_OF_MONTH));
+        assertEquals("1980-08-23T00:00:00.000Z", new CalendarToIsoStringParser().parse(calendar));
+        assertNull(new IsoStringToCalendarParser().parse(null));
+    }
+
+    @Test
+    public void canParseNumbersAndEnums() {
+        assertEquals(Integer.valueOf(-42), new StringToIntParser().parse("-42"));
+        assertEquals(-42, new StringToIntParser().parseInt("-42"));
+        assertEquals("-42", new IntToStringParser().parse(-42));
+        assertNull(new IntToStringParser().parse((Integer)null));
+        assertEquals(TimeUnit.DAYS.toMillis(1), new IsoStringToMillisParser().parseLong("1970-01-02"));
+        assertEquals(Color.GREEN, new StringToColorParser().parse("GREEN"));
+        assertEquals("RED", new EnumToStringParser<Color>().parse(Color.RED));
+    }
+}
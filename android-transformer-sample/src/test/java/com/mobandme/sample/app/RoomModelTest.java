@@ -0,0 +1,111 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.MappingContext;
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.Room;
+import com.mobandme.sample.app.model.RoomModel;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class RoomModelTest extends BaseTest {
+    public static final String KITCHEN_VALUE = "Kitchen";
+    public static final String LIVING_ROOM_VALUE = "Living room";
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(RoomModel.class);
+    }
+
+    @Test
+    public void canTransformCycles() {
+        RoomModel kitchen = newRoomModel(KITCHEN_VALUE);
+        RoomModel livingRoom = newRoomModel(LIVING_ROOM_VALUE);
+        kitchen.Next = livingRoom;
+        livingRoom.Next = kitchen;
+
+        Room result = transformer.transform(kitchen, Room.class, new MappingContext());
+
+        assertEquals(KITCHEN_VALUE, result.Name);
+        assertEquals(LIVING_ROOM_VALUE, result.Next.Name);
+        assertNotSame(result, result.Next);
+        assertSame(result, result.Next.Next);
+    }
+
+    @Test
+    public void canTransformSelfReference() {
+        RoomModel kitchen = newRoomModel(KITCHEN_VALUE);
+        kitchen.Next = kitchen;
+
+        Room result = transformer.transform(kitchen, Room.class, new MappingContext());
+
+        assertSame(result, result.Next);
+    }
+
+    @Test
+    public void canTransformChildrenReferencingParent() {
+        RoomModel home = newRoomModel(LIVING_ROOM_VALUE);
+        RoomModel kitchen = newRoomModel(KITCHEN_VALUE);
+        kitchen.Next = home;
+        home.Rooms = Arrays.asList(kitchen, kitchen);
+
+        Room result = transformer.transform(home, Room.class, new MappingContext());
+
+        assertEquals(2, result.Rooms.size());
+        assertSame(result.Rooms.get(0), result.Rooms.get(1));
+        assertSame(result, result.Rooms.get(0).Next);
+    }
+
+    @Test
+    public void canTransformCyclesBackToModel() {
+        Room kitchen = new Room();
+        kitchen.Name = KITCHEN_VALUE;
+        kitchen.Rooms = Collections.singletonList(kitchen);
+        kitchen.Next = kitchen;
+
+        RoomModel result = transformer.transform(kitchen, RoomModel.class, new MappingContext());
+
+        assertEquals(KITCHEN_VALUE, result.Name);
+        assertSame(result, result.Next);
+        assertSame(result, result.Rooms.get(0));
+    }
+
+    private RoomModel newRoomModel(String name) {
+        RoomModel result = new RoomModel();
+        result.Name = name;
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.Tracer;
+import com.mobandme.android.transformer.TransformMetrics;
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.model.HomeModel;
+import com.mobandme.sample.app.model.parser.CalendarToStringParser;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransformMetricsTest extends BaseTest {
+    private Transformer transformer;
+    private TransformMetrics metrics;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(HomeModel.class);
+        metrics = new TransformMetrics();
+        Transformer.setTransformListener(metrics);
+    }
+
+    @After
+    public void tearDown() {
+        Transformer.setTransformListener(null);
+        Transformer.setTracer(null);
+    }
+
+    @Test
+    public void canRecordTransformations() {
+        HomeModel homeModel = new HomeModel();
+        homeModel.Date = GregorianCalendar.getInstance();
+
+        transformer.transform(homeModel, Home.class);
+        transformer.transformAll(Arrays.asList(homeModel, homeModel), Home.class);
+
+        assertEquals(3, metrics.getCount(HomeModel.class, Home.class));
+        assertEquals(0, metrics.getFailureCount(HomeModel.class, Home.class));
+        assertTrue(metrics.getTotalNanos(HomeModel.class, Home.class) > 0);
+        assertTrue(metrics.getPercentileNanos(HomeModel.class, Home.class, 99) >= metrics.getPercentileNanos(HomeModel.class, Home.class, 50));
+        assertTrue(metrics.dump().contains(HomeModel.class.getName() + " -> " + Home.class.getName() + ": count=3"));
+    }
+
+    @Test
+    public void canRecordFailures() {
+        HomeModel homeModel = new HomeModel();
+
+        try {
+            transformer.transform(homeModel, Home.class);
+            fail();
+        } catch (RuntimeException error) {
+            assertEquals(1, metrics.getFailureCount(HomeModel.class, Home.class));
+            assertEquals(0, metrics.getCount(HomeModel.class, Home.class));
+        }
+    }
+
+    @Test
+    public void canTraceTransformationsAndParsers() {
+        final List<String> events = new ArrayList<>();
+        Transformer.setTracer(new Tracer() {
+            @Override
+            public void onTransform(Class<?> sourceType, Class<?> destinationType, long startNanos, long durationNanos) {
+                events.add("transform " + sourceType.getSimpleName() + " " + destinationType.getSimpleName());
+            }
+
+            @Override
+            public void onTransformBatch(Class<?> destinationType, int itemCount, long startNanos, long durationNanos) {
+                events.add("batch " + destinationType.getSimpleName() + " " + itemCount);
+            }
+
+            @Override
+            public void onParse(Class<?> parserType, long startNanos, long durationNanos) {
+                assertEquals(CalendarToStringParser.class, parserType);
+                events.add("parse");
+            }
+        });
+
+        HomeModel homeModel = new HomeModel();
+        homeModel.Date = GregorianCalendar.getInstance();
+        transformer.transform(homeModel, Home.class);
+        transformer.transformAll(Arrays.asList(homeModel, homeModel), Home.class);
+
+        assertEquals(Arrays.asList("parse", "transform HomeModel Home", "parse", "parse", "batch Home 2"), events);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.Flow;
+import com.mobandme.android.transformer.TransformProcessor;
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.model.HomeModel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TransformProcessorTest extends BaseTest {
+    private static final int BATCH_SIZE = 2;
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(HomeModel.class);
+    }
+
+    @Test
+    public void canTransformStreamWithBackpressure() {
+        List<Object> values = new ArrayList<>();
+        for (int index = 0; index < 5; index++)
+            values.add(createHomeModel(String.valueOf(index)));
+        values.add(2, "Not mappable");
+
+        final List<Object> failedValues = new ArrayList<>();
+        TransformProcessor<Home> processor = new TransformProcessor<>(transformer, Home.class, new TransformProcessor.ErrorHandler() {
+            @Override
+            public void onTransformError(Object value, RuntimeException error) {
+                failedValues.add(value);
+            }
+        });
+        ListPublisher publisher = new ListPublisher(values);
+        BatchSubscriber subscriber = new BatchSubscriber();
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4"), subscriber.cities);
+        assertEquals(Arrays.<Object>asList("Not mappable"), failedValues);
+        assertTrue(subscriber.completed);
+        assertTrue(publisher.maxOutstandingRequests <= BATCH_SIZE + 1);
+    }
+
+    @Test
+    public void canFailStreamWithNullObject() {
+        List<Object> values = Arrays.<Object>asList(createHomeModel("0"), null, createHomeModel("1"));
+
+        final List<Object> failedValues = new ArrayList<>();
+        TransformProcessor<Home> processor = new TransformProcessor<>(transformer, Home.class, new TransformProcessor.ErrorHandler() {
+            @Override
+            public void onTransformError(Object value, RuntimeException error) {
+                failedValues.add(value);
+            }
+        });
+        ListPublisher publisher = new ListPublisher(values);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Integer.MAX_VALUE);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertEquals(Arrays.asList("0"), subscriber.cities);
+        assertTrue(subscriber.error instanceof NullPointerException);
+        assertTrue(failedValues.isEmpty());
+        assertTrue(publisher.cancelled);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void canStopDeliveringAfterCancel() {
+        List<Object> values = new ArrayList<>();
+        for (int index = 0; index < 5; index++)
+            values.add(createHomeModel(String.valueOf(index)));
+
+        TransformProcessor<Home> processor = new TransformProcessor<>(transformer, Home.class, null);
+        ListPublisher publisher = new ListPublisher(values);
+        RecordingSubscriber subscriber = new RecordingSubscriber(2);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertEquals(Arrays.asList("0", "1"), subscriber.cities);
+        assertTrue(publisher.cancelled);
+    }
+
+    private HomeModel createHomeModel(String city) {
+        HomeModel result = new HomeModel();
+        result.City = city;
+        result.Date = GregorianCalendar.getInstance();
+        return result;
+    }
+
+    private static class ListPublisher implements Flow.Publisher<Object> {
+        private final List<Object> values;
+        private int position;
+        private long outstandingRequests;
+        private long maxOutstandingRequests;
+        private boolean cancelled;
+
+        ListPublisher(List<Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Object> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private boolean emitting;
+                private boolean completed;
+
+                @Override
+                public void request(long n) {
+                    outstandingRequests += n;
+                    maxOutstandingRequests = Math.max(maxOutstandingRequests, outstandingRequests);
+                    if (emitting)
+                        return;
+
+                    emitting = true;
+                    while (outstandingRequests > 0 && position < values.size()) {
+                        outstandingRequests--;
+                        subscriber.onNext(values.get(position++));
+                    }
+                    emitting = false;
+
+                    if (position == values.size() && !completed) {
+                        completed = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static class BatchSubscriber implements Flow.Subscriber<Home> {
+        private final List<String> cities = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private int pendingInBatch;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            requestBatch();
+        }
+
+        @Override
+        public void onNext(Home item) {
+            cities.add(item.City);
+            if (--pendingInBatch == 0)
+                requestBatch();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            throw new AssertionError(error);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private void requestBatch() {
+            pendingInBatch = BATCH_SIZE;
+            subscription.request(BATCH_SIZE);
+        }
+    }
+
+    /**
+     * Requests all the objects at once and cancels after receiving some of them.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<Home> {
+        private final List<String> cities = new ArrayList<>();
+        private final int cancelAfter;
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        RecordingSubscriber(int cancelAfter) {
+            this.cancelAfter = cancelAfter;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Home item) {
+            cities.add(item.City);
+            if (cities.size() == cancelAfter)
+                subscription.cancel();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.sample.app;
+
+import com.mobandme.android.transformer.TransformAllCallback;
+import com.mobandme.android.transformer.TransformListener;
+import com.mobandme.android.transformer.Transformer;
+import com.mobandme.android.transformer.WarmUpReport;
+import com.mobandme.sample.app.domain.Home;
+import com.mobandme.sample.app.domain.HomeColor;
+import com.mobandme.sample.app.model.HomeColorModel;
+import com.mobandme.sample.app.model.HomeModel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransformerConcurrencyTest extends BaseTest {
+    private static final int THREADS_COUNT = 8;
+    private static final int ITERATIONS_PER_THREAD = 20000;
+
+    private Transformer transformer;
+
+    @Override
+    public void setup() {
+        transformer = new Transformer
+                            .Builder()
+                            .build(HomeModel.class);
+    }
+
+    @Test
+    public void canShareTransformerBetweenThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS_COUNT; thread++)
+            results.add(executor.submit(new TransformTask(thread)));
+
+        int transformationsCount = 0;
+        for (Future<Integer> result : results)
+            transformationsCount += result.get();
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(THREADS_COUNT * ITERATIONS_PER_THREAD, transformationsCount);
+    }
+
+    @Test
+    public void canTransformAllAsynchronously() throws Exception {
+        final int valuesCount = Transformer.ASYNC_CHUNK_SIZE * 3 + 1;
+        List<HomeModel> homeModels = new ArrayList<>();
+        for (int index = 0; index < valuesCount; index++) {
+            HomeModel homeModel = new HomeModel();
+            homeModel.City = String.valueOf(index);
+            homeModel.Date = GregorianCalendar.getInstance();
+            homeModels.add(homeModel);
+        }
+
+        final AtomicInteger deliveredCount = new AtomicInteger();
+        final AtomicInteger chunksCount = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<List<Home>> result = transformer.transformAllAsync(homeModels, Home.class, executor, new TransformAllCallback<Home>() {
+            @Override
+            public void onChunkTransformed(List<Home> chunk, int fromIndex) {
+                assertEquals(deliveredCount.get(), fromIndex);
+                assertEquals(String.valueOf(fromIndex), chunk.get(0).City);
+                deliveredCount.addAndGet(chunk.size());
+                chunksCount.incrementAndGet();
+            }
+
+            @Override
+            public void onTransformed(List<Home> result) { }
+
+            @Override
+            public void onError(Throwable error) { }
+        });
+
+        List<Home> homes = result.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals(valuesCount, homes.size());
+        assertEquals(valuesCount, deliveredCount.get());
+        assertEquals(4, chunksCount.get());
+        assertEquals(String.valueOf(valuesCount - 1), homes.get(valuesCount - 1).City);
+    }
+
+    @Test
+    public void canRethrowChunkErrorsOnCallerThread() {
+        List<HomeModel> homeModels = new ArrayList<>();
+        for (int index = 0; index < Transformer.PARALLEL_THRESHOLD * 2; index++) {
+            HomeModel homeModel = new HomeModel();
+            homeModel.Date = GregorianCalendar.getInstance();
+            homeModels.add(homeModel);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT);
+        Transformer.setTransformListener(new TransformListener() {
+            @Override
+            public void onTransformed(Class<?> sourceType, Class<?> destinationType, long durationNanos) {
+                throw new AssertionError("Chunk error");
+            }
+
+            @Override
+            public void onTransformFailed(Class<?> sourceType, Class<?> destinationType, RuntimeException error) { }
+        });
+
+        try {
+            transformer.transformAllParallel(homeModels, Home.class, executor);
+            fail("The error of the chunks must be thrown on the caller thread.");
+        } catch (AssertionError error) {
+            assertEquals("Chunk error", error.getMessage());
+        } finally {
+            Transformer.setTransformListener(null);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void canWarmUpInBackground() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<WarmUpReport> result = Transformer.warmUp(executor, 100, HomeColorModel.class, HomeColor.class);
+
+        WarmUpReport report = result.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertTrue(report.getElapsedTime() > 0);
+        assertEquals(2, report.getWarmedUpTypesCount());
+        assertEquals(200, report.getTransformationsCount());
+        assertTrue(report.getFailures().isEmpty());
+    }
+
+    @Test
+    public void canReportWarmUpFailures() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<WarmUpReport> result = Transformer.warmUp(executor, 10, HomeModel.class, String.class, HomeColorModel.class);
+
+        WarmUpReport report = result.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals(1, report.getWarmedUpTypesCount());
+        assertEquals(10, report.getTransformationsCount());
+        assertEquals(2, report.getFailures().size());
+        assertTrue(report.getFailures().containsKey(HomeModel.class));
+        assertTrue(report.getFailures().containsKey(String.class));
+    }
+
+    private class TransformTask implements Callable<Integer> {
+        private final int thread;
+
+        TransformTask(int thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public Integer call() {
+            int result = 0;
+
+            for (int iteration = 0; iteration < ITERATIONS_PER_THREAD; iteration++) {
+                String city = thread + "-" + iteration;
+                HomeModel homeModel = new HomeModel();
+                homeModel.City = city;
+                homeModel.Date = GregorianCalendar.getInstance();
+                homeModel.HomeColor = new HomeColorModel();
+                homeModel.HomeColor.setColorName(city);
+
+                Home home = transformer.transform(homeModel, Home.class);
+                HomeModel reverse = transformer.transform(home, HomeModel.class);
+
+                assertEquals(city, home.City);
+                assertEquals(city, home.HomeColor.getColorName());
+                assertEquals(city, reverse.HomeColor.getColorName());
+                result++;
+            }
+
+            return result;
+        }
+    }
+}
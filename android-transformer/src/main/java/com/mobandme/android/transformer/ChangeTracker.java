@@ -0,0 +1,59 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+import com.mobandme.android.transformer.internal.Changes;
+
+import java.util.Arrays;
+
+/**
+ * Remembers the field values of a source object from its last transformation, so
+ * {@link Transformer#transformChanged(Object, Object, ChangeTracker)} only maps the fields changed since then.
+ * Use one tracker for each source and target pair, a tracker is not thread safe.
+ */
+public final class ChangeTracker {
+    private Object[] snapshot;
+    private Object target;
+
+    Object[] getSnapshot(Object target, int size) {
+        if (snapshot == null || snapshot.length != size || this.target != target) {
+            snapshot = new Object[size];
+            Arrays.fill(snapshot, Changes.UNSET);
+            this.target = target;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Forgets the recorded values, so the next transformation maps all the fields. Call it after
+     * changing the content of a field value in place, as those changes are not detected.
+     */
+    public void reset() {
+        snapshot = null;
+        target = null;
+    }
+}
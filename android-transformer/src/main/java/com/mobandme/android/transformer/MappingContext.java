@@ -0,0 +1,72 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Records the objects mapped during a transformation by their identity. Use the same context for a whole
+ * graph or batch, so the objects referenced from several places are transformed once and the cycles of the
+ * graph terminate. A context is not thread safe and is meant to be used for only one mapping direction.
+ */
+public final class MappingContext {
+    private final Map<Object, Object> destinations = new IdentityHashMap<>();
+
+    /**
+     * Returns the object that the source was already mapped to.
+     * @param source Instance of the source object.
+     * @param destinationType The expected type of the destination object.
+     * @param <T> Generic type
+     * @return The mapped object, or null if the source has not been mapped to that type yet.
+     */
+    public <T> T getDestination(Object source, Class<T> destinationType) {
+        T result = null;
+
+        Object destination = destinations.get(source);
+        if (destinationType.isInstance(destination))
+            result = (T)destination;
+
+        return result;
+    }
+
+    /**
+     * Records the object that a source is mapped to, before its fields are mapped.
+     * @param source Instance of the source object.
+     * @param destination Instance of the destination object.
+     */
+    public void putDestination(Object source, Object destination) {
+        destinations.put(source, destination);
+    }
+
+    public int size() {
+        return destinations.size();
+    }
+
+    public void clear() {
+        destinations.clear();
+    }
+}
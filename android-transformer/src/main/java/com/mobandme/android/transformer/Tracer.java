@@ -0,0 +1,61 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+/**
+ * Receives timed events of the transformations and of the parsers, install it with
+ * {@link Transformer#setTracer(Tracer)}. Use it to forward the events to the tracing system of your platform,
+ * for example android.os.Trace or custom jdk.jfr events on the server side. The timestamps are
+ * System.nanoTime values, and the methods are called on the thread that made the work.
+ */
+public interface Tracer {
+
+    /**
+     * Called after a call to transform or transformInto.
+     * @param sourceType The type of the source object.
+     * @param destinationType The type of the transformed object.
+     * @param startNanos The time when the transformation started.
+     * @param durationNanos The duration of the transformation.
+     */
+    void onTransform(Class<?> sourceType, Class<?> destinationType, long startNanos, long durationNanos);
+
+    /**
+     * Called after the transformation of a group of objects.
+     * @param destinationType The expected type of the transformed objects, or null if it is not known.
+     * @param itemCount The number of objects of the group.
+     * @param startNanos The time when the transformation started.
+     * @param durationNanos The duration of the transformation.
+     */
+    void onTransformBatch(Class<?> destinationType, int itemCount, long startNanos, long durationNanos);
+
+    /**
+     * Called after a parser converted a value.
+     * @param parserType The type of the parser.
+     * @param startNanos The time when the parser started.
+     * @param durationNanos The duration of the conversion.
+     */
+    void onParse(Class<?> parserType, long startNanos, long durationNanos);
+}
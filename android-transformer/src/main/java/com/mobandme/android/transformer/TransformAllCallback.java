@@ -0,0 +1,43 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+import java.util.List;
+
+/**
+ * Receives the results of an asynchronous transformation of a group of objects, chunk by chunk, so the
+ * first objects can be used before the whole group is transformed.
+ * @param <T> The type of the transformed objects.
+ */
+public interface TransformAllCallback<T> extends TransformCallback<List<T>> {
+
+    /**
+     * Called in order each time a chunk of objects is transformed, before {@link #onTransformed(Object)}.
+     * @param chunk The transformed objects of the chunk.
+     * @param fromIndex The position of the first object of the chunk in the source group.
+     */
+    void onChunkTransformed(List<T> chunk, int fromIndex);
+}
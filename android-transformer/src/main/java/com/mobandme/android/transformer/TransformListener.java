@@ -0,0 +1,50 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+/**
+ * Receives a notification for each object transformed by the transformers, install it with
+ * {@link Transformer#setTransformListener(TransformListener)}. The methods are called on the thread
+ * that made the transformation, so the implementations must be thread safe and fast.
+ */
+public interface TransformListener {
+
+    /**
+     * Called after an object has been transformed.
+     * @param sourceType The type of the source object.
+     * @param destinationType The type of the transformed object.
+     * @param durationNanos The duration of the transformation in nanoseconds.
+     */
+    void onTransformed(Class<?> sourceType, Class<?> destinationType, long durationNanos);
+
+    /**
+     * Called when the transformation of an object fails.
+     * @param sourceType The type of the source object.
+     * @param destinationType The expected type of the transformed object, or null if it is not known.
+     * @param error The cause of the failure.
+     */
+    void onTransformFailed(Class<?> sourceType, Class<?> destinationType, RuntimeException error);
+}
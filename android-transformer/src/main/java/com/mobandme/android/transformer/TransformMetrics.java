@@ -0,0 +1,195 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Listener that records, for each pair of source and destination types, the number of transformations, the
+ * failures, the total time and a histogram of the durations. The recording is lock free and does not create
+ * objects once a pair has been seen. Install it with {@link Transformer#setTransformListener(TransformListener)}
+ * and read it with {@link #dump()}, for example from a debug screen or a test.
+ */
+public final class TransformMetrics implements TransformListener {
+    private static final int BUCKETS_COUNT = 64;
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, PairMetrics>> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTransformed(Class<?> sourceType, Class<?> destinationType, long durationNanos) {
+        getPairMetrics(sourceType, destinationType).record(durationNanos);
+    }
+
+    @Override
+    public void onTransformFailed(Class<?> sourceType, Class<?> destinationType, RuntimeException error) {
+        getPairMetrics(sourceType, destinationType).failureCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of successful transformations of a pair of types.
+     */
+    public long getCount(Class<?> sourceType, Class<?> destinationType) {
+        PairMetrics pairMetrics = findPairMetrics(sourceType, destinationType);
+        return pairMetrics != null ? pairMetrics.count.get() : 0;
+    }
+
+    /**
+     * Returns the number of failed transformations of a pair of types, the failures with an unknown
+     * destination type are recorded with Object.class as destination type.
+     */
+    public long getFailureCount(Class<?> sourceType, Class<?> destinationType) {
+        PairMetrics pairMetrics = findPairMetrics(sourceType, destinationType);
+        return pairMetrics != null ? pairMetrics.failureCount.get() : 0;
+    }
+
+    /**
+     * Returns the total duration in nanoseconds of the successful transformations of a pair of types.
+     */
+    public long getTotalNanos(Class<?> sourceType, Class<?> destinationType) {
+        PairMetrics pairMetrics = findPairMetrics(sourceType, destinationType);
+        return pairMetrics != null ? pairMetrics.totalNanos.get() : 0;
+    }
+
+    /**
+     * Returns an upper bound of the duration of the given percentile of the transformations of a pair of
+     * types. The durations are grouped in power of two buckets, so the bound is at most twice the real value.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The duration in nanoseconds, or zero if the pair has no transformations.
+     */
+    public long getPercentileNanos(Class<?> sourceType, Class<?> destinationType, double percentile) {
+        PairMetrics pairMetrics = findPairMetrics(sourceType, destinationType);
+        return pairMetrics != null ? pairMetrics.getPercentileNanos(percentile) : 0;
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    /**
+     * Returns a human readable report of the recorded values, one line per pair of types.
+     */
+    public String dump() {
+        StringBuilder result = new StringBuilder();
+
+        for (Map.Entry<Class<?>, ConcurrentMap<Class<?>, PairMetrics>> sourceEntry : metrics.entrySet()) {
+            for (Map.Entry<Class<?>, PairMetrics> destinationEntry : sourceEntry.getValue().entrySet()) {
+                PairMetrics pairMetrics = destinationEntry.getValue();
+                long count = pairMetrics.count.get();
+                long totalNanos = pairMetrics.totalNanos.get();
+
+                result.append(String.format("%s -> %s: count=%d, failures=%d, total=%.3fms, mean=%dns, p50<=%dns, p90<=%dns, p99<=%dns%n",
+                        sourceEntry.getKey().getName(),
+                        destinationEntry.getKey().getName(),
+                        count,
+                        pairMetrics.failureCount.get(),
+                        totalNanos / 1e6,
+                        count > 0 ? totalNanos / count : 0,
+                        pairMetrics.getPercentileNanos(50),
+                        pairMetrics.getPercentileNanos(90),
+                        pairMetrics.getPercentileNanos(99)));
+            }
+        }
+
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return dump();
+    }
+
+    private PairMetrics findPairMetrics(Class<?> sourceType, Class<?> destinationType) {
+        PairMetrics result = null;
+
+        Map<Class<?>, PairMetrics> destinations = metrics.get(sourceType);
+        if (destinations != null)
+            result = destinations.get(destinationType != null ? destinationType : Object.class);
+
+        return result;
+    }
+
+    private PairMetrics getPairMetrics(Class<?> sourceType, Class<?> destinationType) {
+        if (destinationType == null)
+            destinationType = Object.class;
+
+        ConcurrentMap<Class<?>, PairMetrics> destinations = metrics.get(sourceType);
+        if (destinations == null) {
+            destinations = new ConcurrentHashMap<>();
+            ConcurrentMap<Class<?>, PairMetrics> currentDestinations = metrics.putIfAbsent(sourceType, destinations);
+            if (currentDestinations != null)
+                destinations = currentDestinations;
+        }
+
+        PairMetrics result = destinations.get(destinationType);
+        if (result == null) {
+            result = new PairMetrics();
+            PairMetrics currentResult = destinations.putIfAbsent(destinationType, result);
+            if (currentResult != null)
+                result = currentResult;
+        }
+
+        return result;
+    }
+
+    private static class PairMetrics {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong failureCount = new AtomicLong();
+        final AtomicLong totalNanos = new AtomicLong();
+        final AtomicLongArray histogram = new AtomicLongArray(BUCKETS_COUNT);
+
+        void record(long durationNanos) {
+            if (durationNanos < 0)
+                durationNanos = 0;
+
+            count.incrementAndGet();
+            totalNanos.addAndGet(durationNanos);
+            histogram.incrementAndGet(Math.min(BUCKETS_COUNT - 1, 64 - Long.numberOfLeadingZeros(durationNanos)));
+        }
+
+        long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (int bucket = 0; bucket < BUCKETS_COUNT; bucket++)
+                total += histogram.get(bucket);
+
+            long threshold = (long)Math.ceil(total * percentile / 100d);
+            long accumulated = 0;
+            for (int bucket = 0; bucket < BUCKETS_COUNT && total > 0; bucket++) {
+                accumulated += histogram.get(bucket);
+                if (accumulated >= threshold && accumulated > 0)
+                    return bucket == BUCKETS_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+            }
+
+            return 0;
+        }
+    }
+}
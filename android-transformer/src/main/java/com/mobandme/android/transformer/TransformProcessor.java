@@ -0,0 +1,233 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer;
+
+import com.mobandme.android.transformer.internal.Mapper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stream stage that transforms the objects of a publisher as they arrive. The requests of the subscriber are
+ * sent to the publisher with the same size, so the objects are transformed in the batches asked by the
+ * subscriber and never faster than it can consume them. An object that cannot be transformed is skipped and
+ * reported to the error handler, one more object is requested in its place and the stream goes on. A null
+ * object breaks the stream protocol, so the publisher is cancelled and the subscriber receives a
+ * NullPointerException through onError. Nothing is sent to the subscriber after it cancels.
+ * Only one subscriber is supported.
+ * @param <T> The type of the transformed objects.
+ */
+public final class TransformProcessor<T> implements Flow.Processor<Object, T> {
+
+    /**
+     * Receives the objects of the stream that cannot be transformed.
+     */
+    public interface ErrorHandler {
+
+        void onTransformError(Object value, RuntimeException error);
+    }
+
+    private final Transformer transformer;
+    private final Class<T> expectedReturnType;
+    private final ErrorHandler errorHandler;
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super T>> downstream = new AtomicReference<>();
+    private final AtomicLong pendingRequests = new AtomicLong();
+    private volatile boolean cancelled;
+    private Flow.Subscriber<? super T> subscribedDownstream;
+    private boolean terminated;
+    private Throwable terminalError;
+    private Class<?> lastValueType;
+    private Mapper<Object, Object> mapper;
+
+    /**
+     * @param transformer The transformer used to transform the objects.
+     * @param expectedReturnType Use this argument to set the type of the transformed objects.
+     * @param errorHandler The handler of the objects that cannot be transformed, or null to skip them silently.
+     */
+    public TransformProcessor(Transformer transformer, Class<T> expectedReturnType, ErrorHandler errorHandler) {
+        if (transformer == null)
+            throw new IllegalArgumentException("The 'transformer' parameter cannot be null.");
+
+        this.transformer = transformer;
+        this.expectedReturnType = expectedReturnType;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null)
+            throw new IllegalArgumentException("The 'subscriber' parameter cannot be null.");
+
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new EmptySubscription());
+            subscriber.onError(new IllegalStateException("This processor only supports one subscriber."));
+            return;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+
+        boolean alreadyTerminated;
+        synchronized (this) {
+            subscribedDownstream = subscriber;
+            alreadyTerminated = terminated;
+        }
+
+        if (alreadyTerminated)
+            signalTerminal(subscriber);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+
+        if (cancelled)
+            subscription.cancel();
+        else
+            requestPending(subscription);
+    }
+
+    @Override
+    public void onNext(Object item) {
+        Object result;
+
+        if (cancelled)
+            return;
+
+        if (item == null) {
+            cancelled = true;
+            upstream.get().cancel();
+            terminate(new NullPointerException("The stream cannot contain null objects."));
+            return;
+        }
+
+        try {
+            if (item.getClass() != lastValueType) {
+                mapper = transformer.getMapper(item, expectedReturnType);
+                lastValueType = item.getClass();
+            }
+            TransformListener listener = Transformer.getTransformListener();
+            if (listener == null)
+                result = mapper.toDestination(item);
+            else
+                result = transformer.toDestination(mapper, item, null, null, expectedReturnType, listener);
+        } catch (RuntimeException error) {
+            if (errorHandler != null)
+                errorHandler.onTransformError(item, error);
+            if (!cancelled)
+                upstream.get().request(1);
+            return;
+        }
+
+        if (!cancelled)
+            downstream.get().onNext((T)result);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        terminate(error);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    private void terminate(Throwable error) {
+        Flow.Subscriber<? super T> subscriber;
+
+        synchronized (this) {
+            if (terminated)
+                return;
+            terminated = true;
+            terminalError = error;
+            subscriber = subscribedDownstream;
+        }
+
+        if (subscriber != null)
+            signalTerminal(subscriber);
+    }
+
+    private void signalTerminal(Flow.Subscriber<? super T> subscriber) {
+        if (terminalError != null)
+            subscriber.onError(terminalError);
+        else
+            subscriber.onComplete();
+    }
+
+    private void requestPending(Flow.Subscription subscription) {
+        long requests = pendingRequests.getAndSet(0);
+        if (requests > 0)
+            subscription.request(requests);
+    }
+
+    private class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                terminate(new IllegalArgumentException("The number of requested objects must be positive."));
+                return;
+            }
+
+            Flow.Subscription subscription = upstream.get();
+            if (subscription != null) {
+                subscription.request(n);
+            } else {
+                long current;
+                do {
+                    current = pendingRequests.get();
+                } while (!pendingRequests.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+
+                subscription = upstream.get();
+                if (subscription != null)
+                    requestPending(subscription);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            Flow.Subscription subscription = upstream.get();
+            if (subscription != null)
+                subscription.cancel();
+        }
+    }
+
+    private static class EmptySubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) { }
+
+        @Override
+        public void cancel() { }
+    }
+}
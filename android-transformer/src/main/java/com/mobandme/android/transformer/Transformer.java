@@ -26,10 +26,32 @@
 package com.mobandme.android.transformer;
 
 import com.mobandme.android.transformer.internal.AbstractTransformer;
+import com.mobandme.android.transformer.internal.AbstractTransformerRegistry;
+import com.mobandme.android.transformer.internal.Mapper;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Entry point to transform your POJO objects. The instances of this class are thread safe, the generated
+ * transformers and mappers are resolved once per process and shared, so one instance can be used from
+ * several threads at the same time as long as your custom parsers are thread safe too.
+ */
 public final class Transformer {
     public static class Builder {
         
@@ -40,8 +62,30 @@ public final class Transformer {
             return new Transformer(type);
         }
     }
+
+    /**
+     * Below this number of objects the parallel transformations run sequentially on the caller thread.
+     */
+    public static final int PARALLEL_THRESHOLD = 2048;
+    private static final int MIN_CHUNK_SIZE = 512;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Number of objects delivered on each chunk of the asynchronous transformations of groups.
+     */
+    public static final int ASYNC_CHUNK_SIZE = 256;
+
+    /**
+     * Process wide cache of the resolved transformers, keyed by the type used to build the Transformer. A type
+     * linked from several packages resolves to the transformers of all of them.
+     */
+    private static final ConcurrentMap<Class<?>, AbstractTransformer[]> transformersCache = new ConcurrentHashMap<>();
+
+    private static volatile TransformListener transformListener;
+    private static volatile Tracer tracer;
     
     private Class<?> transformerType;
+    private volatile AbstractTransformer[] transformerInstances;
     
     private Transformer(Class<?> type) {
         this.transformerType = type;
@@ -57,7 +101,9 @@ public final class Transformer {
     }
 
     /**
-     * Use this method to transform your POJO object to the linked POJO object.
+     * Use this method to transform your POJO object to the linked POJO object. This method does not record the
+     * mapped objects, so an object graph with cycles never terminates and throws a StackOverflowError, use
+     * {@link #transform(Object, Class, MappingContext)} to transform graphs with cycles.
      * @param value Instance of the source object.
      * @param expectedReturnType Use this argument to set the return expected type.*
      * @param <T> Generic type
@@ -68,21 +114,519 @@ public final class Transformer {
 
         if (value == null)
             throw new IllegalArgumentException("The 'value' parameter cannot be null.");
-        
+
+        Tracer currentTracer = tracer;
+        long startTime = currentTracer != null ? System.nanoTime() : 0;
+
+        Mapper<Object, Object> mapper = getMapper(value, expectedReturnType);
+        TransformListener listener = transformListener;
+        if (listener == null)
+            result = mapper.toDestination(value);
+        else
+            result = toDestination(mapper, value, null, null, expectedReturnType, listener);
+
+        if (currentTracer != null)
+            currentTracer.onTransform(value.getClass(), result.getClass(), startTime, System.nanoTime() - startTime);
+
+        return (T)result;
+    }
+
+    /**
+     * Use this method to transform an object graph, the objects referenced from several places are transformed
+     * once and the cycles of the graph terminate.
+     * @param value Instance of the source object.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param context The context of the mapping, reuse it to share the mapped objects between several calls.
+     * @param <T> Generic type
+     * @return An instance of the converted object.
+     */
+    public <T> T transform(Object value, Class<T> expectedReturnType, MappingContext context) {
+        if (value == null)
+            throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+        if (context == null)
+            throw new IllegalArgumentException("The 'context' parameter cannot be null.");
+
+        Tracer currentTracer = tracer;
+        long startTime = currentTracer != null ? System.nanoTime() : 0;
+
+        Object result;
+        Mapper<Object, Object> mapper = getMapper(value, expectedReturnType);
+        TransformListener listener = transformListener;
+        if (listener == null)
+            result = mapper.toDestination(value, null, context);
+        else
+            result = toDestination(mapper, value, null, context, expectedReturnType, listener);
+
+        if (currentTracer != null)
+            currentTracer.onTransform(value.getClass(), result.getClass(), startTime, System.nanoTime() - startTime);
+
+        return (T)result;
+    }
+
+    /**
+     * Use this method to transform your POJO object without paying for the fields that are never read. When
+     * the class is annotated with @Mappable(lazy = true) the returned object maps each field read through a
+     * getter the first time it is read, public fields are mapped at once. The returned object keeps a
+     * reference to the source object and it is not safe to read it from several threads.
+     * @param value Instance of the source object.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param <T> Generic type
+     * @return An instance of the converted object.
+     */
+    public <T> T transformLazy(Object value, Class<T> expectedReturnType) {
+        if (value == null)
+            throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+
+        Mapper<Object, Object> mapper = getMapper(value, expectedReturnType);
+        return (T)mapper.toDestinationLazy(value);
+    }
+
+    /**
+     * Use this method to fill an existing instance of the linked POJO object, the nested mapped objects
+     * of the target are reused when they are not null, so no new objects are created for them.
+     * @param value Instance of the source object.
+     * @param target Instance of the linked object that will be filled.
+     * @param <T> Generic type
+     * @return The filled target instance.
+     */
+    public <T> T transformInto(Object value, T target) {
+        if (value == null)
+            throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+        if (target == null)
+            throw new IllegalArgumentException("The 'target' parameter cannot be null.");
+
+        Tracer currentTracer = tracer;
+        long startTime = currentTracer != null ? System.nanoTime() : 0;
+
+        Object result;
+        Mapper<Object, Object> mapper = getMapper(value, target.getClass());
+        TransformListener listener = transformListener;
+        if (listener == null)
+            result = mapper.toDestination(value, target);
+        else
+            result = toDestination(mapper, value, target, null, target.getClass(), listener);
+
+        if (currentTracer != null)
+            currentTracer.onTransform(value.getClass(), result.getClass(), startTime, System.nanoTime() - startTime);
+
+        return (T)result;
+    }
+
+    /**
+     * Use this method to update an existing instance of the linked POJO object after small changes of the
+     * source object. When the class is annotated with @Mappable(trackChanges = true) only the fields whose
+     * value changed since the last call with the same tracker are mapped and parsed, the other classes map
+     * all the fields. The field values are compared by reference, so replace them instead of changing them.
+     * @param value Instance of the source object.
+     * @param target Instance of the linked object that will be updated.
+     * @param tracker The tracker of the source and target pair.
+     * @param <T> Generic type
+     * @return The updated target instance.
+     */
+    public <T> T transformChanged(Object value, T target, ChangeTracker tracker) {
+        if (value == null)
+            throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+        if (target == null)
+            throw new IllegalArgumentException("The 'target' parameter cannot be null.");
+        if (tracker == null)
+            throw new IllegalArgumentException("The 'tracker' parameter cannot be null.");
+
+        Mapper<Object, Object> mapper = getMapper(value, target.getClass());
+        Object[] snapshot = tracker.getSnapshot(target, mapper.getSnapshotSize());
+        return (T)mapper.toDestinationChanged(value, target, snapshot);
+    }
+
+    /**
+     * Use this method to transform a collection of POJO objects to their linked POJO objects.
+     * @param values Collection of source objects.
+     * @return A list with the converted objects, in the same order than the source collection.
+     */
+    public List<Object> transformAll(Collection<?> values) {
+        return transformAll(values, Object.class);
+    }
+
+    /**
+     * Use this method to transform a group of POJO objects to their linked POJO objects. The mapper
+     * is resolved once per run of objects of the same type and null elements are kept as null.
+     * @param values Group of source objects.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param <T> Generic type
+     * @return A list with the converted objects, in the same order than the source group.
+     */
+    public <T> List<T> transformAll(Iterable<?> values, Class<T> expectedReturnType) {
+        return transformAll(values, expectedReturnType, null);
+    }
+
+    /**
+     * Use this method to transform a group of POJO objects sharing a mapping context, so the objects
+     * referenced from several elements are transformed once.
+     * @param values Group of source objects.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param context The context of the mapping, or null to map without tracking the identities.
+     * @param <T> Generic type
+     * @return A list with the converted objects, in the same order than the source group.
+     */
+    public <T> List<T> transformAll(Iterable<?> values, Class<T> expectedReturnType, MappingContext context) {
+        List<T> result;
+
+        if (values == null)
+            throw new IllegalArgumentException("The 'values' parameter cannot be null.");
+
+        if (values instanceof Collection)
+            result = new ArrayList<>(((Collection<?>)values).size());
+        else
+            result = new ArrayList<>();
+
+        Tracer currentTracer = tracer;
+        long startTime = currentTracer != null ? System.nanoTime() : 0;
+
+        TransformListener listener = transformListener;
+        Class<?> lastValueType = null;
+        Mapper<Object, Object> mapper = null;
+        for (Object value : values) {
+            Object item = null;
+
+            if (value != null) {
+                if (value.getClass() != lastValueType) {
+                    mapper = getMapper(value, expectedReturnType);
+                    lastValueType = value.getClass();
+                }
+                if (listener == null)
+                    item = mapper.toDestination(value, null, context);
+                else
+                    item = toDestination(mapper, value, null, context, expectedReturnType, listener);
+            }
+
+            result.add((T)item);
+        }
+
+        if (currentTracer != null)
+            currentTracer.onTransformBatch(expectedReturnType, result.size(), startTime, System.nanoTime() - startTime);
+
+        return result;
+    }
+
+    /**
+     * Use this method to transform a big list of POJO objects using the shared ForkJoinPool of the library.
+     * @see #transformAllParallel(Collection, Class, Executor)
+     */
+    public <T> List<T> transformAllParallel(Collection<?> values, Class<T> expectedReturnType) {
+        return transformAllParallel(values, expectedReturnType, ParallelPoolHolder.INSTANCE);
+    }
+
+    /**
+     * Use this method to transform a big list of POJO objects on several threads. The values are split in
+     * chunks that are transformed on the executor and written in order into a pre-sized array, the caller
+     * thread waits until all the chunks are done and throws again the first error of any chunk. Lists smaller
+     * than {@link #PARALLEL_THRESHOLD} are transformed sequentially on the caller thread.
+     * @param values Collection of source objects.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param executor The executor where the chunks will be transformed.
+     * @param <T> Generic type
+     * @return A fixed-size list with the converted objects, in the same order than the source collection.
+     */
+    public <T> List<T> transformAllParallel(Collection<?> values, Class<T> expectedReturnType, Executor executor) {
+        if (values == null)
+            throw new IllegalArgumentException("The 'values' parameter cannot be null.");
+        if (executor == null)
+            throw new IllegalArgumentException("The 'executor' parameter cannot be null.");
+
+        Tracer currentTracer = tracer;
+        long startTime = currentTracer != null ? System.nanoTime() : 0;
+
+        Object[] source = values.toArray();
+        Object[] result = new Object[source.length];
+
+        if (source.length < PARALLEL_THRESHOLD) {
+            transformRange(source, result, 0, source.length, expectedReturnType);
+        } else {
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            if (executor instanceof ForkJoinPool)
+                parallelism = ((ForkJoinPool)executor).getParallelism();
+
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, (source.length + parallelism * CHUNKS_PER_THREAD - 1) / (parallelism * CHUNKS_PER_THREAD));
+            int chunksCount = (source.length + chunkSize - 1) / chunkSize;
+            CountDownLatch pendingChunks = new CountDownLatch(chunksCount);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+
+            for (int from = 0; from < source.length; from += chunkSize) {
+                TransformChunk chunk = new TransformChunk(source, result, from, Math.min(from + chunkSize, source.length), expectedReturnType, pendingChunks, error);
+                try {
+                    executor.execute(chunk);
+                } catch (RejectedExecutionException rejected) {
+                    chunk.run();
+                }
+            }
+
+            try {
+                pendingChunks.await();
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(interrupted);
+            }
+
+            Throwable chunkError = error.get();
+            if (chunkError instanceof RuntimeException)
+                throw (RuntimeException)chunkError;
+            if (chunkError instanceof Error)
+                throw (Error)chunkError;
+            if (chunkError != null)
+                throw new RuntimeException(chunkError);
+        }
+
+        if (currentTracer != null)
+            currentTracer.onTransformBatch(expectedReturnType, result.length, startTime, System.nanoTime() - startTime);
+
+        return (List<T>)Arrays.asList(result);
+    }
+
+    /**
+     * Use this method to transform your POJO object on the shared ForkJoinPool of the library.
+     * @see #transformAsync(Object, Class, Executor, TransformCallback)
+     */
+    public <T> Future<T> transformAsync(Object value, Class<T> expectedReturnType, TransformCallback<T> callback) {
+        return transformAsync(value, expectedReturnType, ParallelPoolHolder.INSTANCE, callback);
+    }
+
+    /**
+     * Use this method to transform your POJO object without blocking the caller thread.
+     * @param value Instance of the source object.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param executor The executor where the object will be transformed.
+     * @param callback The callback notified on the executor thread, or null to only use the returned future.
+     * @param <T> Generic type
+     * @return A future with the converted object.
+     */
+    public <T> Future<T> transformAsync(Object value, Class<T> expectedReturnType, Executor executor, TransformCallback<T> callback) {
+        if (value == null)
+            throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+        if (executor == null)
+            throw new IllegalArgumentException("The 'executor' parameter cannot be null.");
+
+        FutureTask<T> result = new FutureTask<>(new TransformTask<>(value, expectedReturnType, callback));
+        executor.execute(result);
+
+        return result;
+    }
+
+    /**
+     * Use this method to transform a group of POJO objects on the shared ForkJoinPool of the library.
+     * @see #transformAllAsync(Collection, Class, Executor, TransformAllCallback)
+     */
+    public <T> Future<List<T>> transformAllAsync(Collection<?> values, Class<T> expectedReturnType, TransformAllCallback<T> callback) {
+        return transformAllAsync(values, expectedReturnType, ParallelPoolHolder.INSTANCE, callback);
+    }
+
+    /**
+     * Use this method to transform a group of POJO objects without blocking the caller thread. The objects
+     * are transformed in chunks of {@link #ASYNC_CHUNK_SIZE} objects and each chunk is delivered to the
+     * callback as soon as it is ready. Cancelling the returned future stops the transformation after the
+     * current chunk.
+     * @param values Collection of source objects.
+     * @param expectedReturnType Use this argument to set the return expected type.
+     * @param executor The executor where the objects will be transformed.
+     * @param callback The callback notified on the executor thread, or null to only use the returned future.
+     * @param <T> Generic type
+     * @return A future with a fixed-size list of the converted objects, in the same order than the source collection.
+     */
+    public <T> Future<List<T>> transformAllAsync(Collection<?> values, Class<T> expectedReturnType, Executor executor, TransformAllCallback<T> callback) {
+        if (values == null)
+            throw new IllegalArgumentException("The 'values' parameter cannot be null.");
+        if (executor == null)
+            throw new IllegalArgumentException("The 'executor' parameter cannot be null.");
+
+        FutureTask<List<T>> result = new FutureTask<>(new TransformAllTask<>(values.toArray(), expectedReturnType, callback));
+        executor.execute(result);
+
+        return result;
+    }
+
+    /**
+     * Use this method at the start of your application to load the generated transformers, mappers and parsers
+     * of your types on a background thread, so the first transformations do not stall the main thread.
+     * @param executor The executor that will run the warm-up.
+     * @param types The mappable or linked types to warm up.
+     * @return A future with the report of the warm-up.
+     */
+    public static Future<WarmUpReport> warmUp(Executor executor, Class<?>... types) {
+        return warmUp(executor, 0, types);
+    }
+
+    /**
+     * Use this method to warm up your types like {@link #warmUp(Executor, Class[])} and also transform, the
+     * number of times given, an instance of each type created with its public default constructor. This gets
+     * the generated mappers compiled before they are really used. The synthetic transformations are not
+     * reported to the listener nor to the tracer. A type that cannot be loaded, instantiated or transformed,
+     * for example because a parser does not accept the default values of the fields, stops its own warm-up
+     * and is reported in the failures of the result, the other types are still warmed up.
+     * @param executor The executor that will run the warm-up.
+     * @param iterations The number of transformations of each type, zero to only load the classes.
+     * @param types The mappable or linked types to warm up.
+     * @return A future with the report of the warm-up.
+     */
+    public static Future<WarmUpReport> warmUp(Executor executor, int iterations, Class<?>... types) {
+        if (executor == null)
+            throw new IllegalArgumentException("The 'executor' parameter cannot be null.");
+        if (types == null)
+            throw new IllegalArgumentException("The 'types' parameter cannot be null.");
+
+        FutureTask<WarmUpReport> result = new FutureTask<>(new WarmUpTask(iterations, types.clone()));
+        executor.execute(result);
+
+        return result;
+    }
+
+    /**
+     * Use this method to read the counters of the result cache of a type configured with @Mappable(cacheSize).
+     * When the type is linked with several types the counters of all their caches are added up.
+     * @param type The source type.
+     * @return The counters, or null if the results of the type are not cached.
+     */
+    public CacheStatistics getCacheStatistics(Class<?> type) {
+        if (type == null)
+            throw new IllegalArgumentException("The 'type' parameter cannot be null.");
+
+        CacheStatistics result = null;
+
+        for (AbstractTransformer transformer : getCachedTransformerInstances()) {
+            CacheStatistics statistics = transformer.getCacheStatistics(type);
+            if (statistics != null)
+                result = result != null ? result.plus(statistics) : statistics;
+        }
+
+        return result;
+    }
+
+    /**
+     * Use this method to remove the cached results of all the types of the transformer, for example after
+     * changing a cached source object.
+     */
+    public void clearCaches() {
+        for (AbstractTransformer transformer : getCachedTransformerInstances())
+            transformer.clearCaches();
+    }
+
+    private void transformRange(Object[] source, Object[] result, int from, int to, Class<?> expectedReturnType) {
+        TransformListener listener = transformListener;
+        Class<?> lastValueType = null;
+        Mapper<Object, Object> mapper = null;
+
+        for (int index = from; index < to; index++) {
+            Object value = source[index];
+            if (value != null) {
+                if (value.getClass() != lastValueType) {
+                    mapper = getMapper(value, expectedReturnType);
+                    lastValueType = value.getClass();
+                }
+                if (listener == null)
+                    result[index] = mapper.toDestination(value);
+                else
+                    result[index] = toDestination(mapper, value, null, null, expectedReturnType, listener);
+            }
+        }
+    }
+
+    /**
+     * Use this method to install a listener notified of every transformation of all the transformers, for
+     * example a {@link TransformMetrics}. When no listener is installed the transformations are not measured.
+     * @param listener The listener, or null to remove the current one.
+     */
+    public static void setTransformListener(TransformListener listener) {
+        transformListener = listener;
+    }
+
+    public static TransformListener getTransformListener() {
+        return transformListener;
+    }
+
+    /**
+     * Use this method to install a tracer notified of the transformations, the groups of transformations and
+     * the parsers of all the transformers. There is no tracer by default and then nothing is measured.
+     * @param tracer The tracer, or null to remove the current one.
+     */
+    public static void setTracer(Tracer tracer) {
+        Transformer.tracer = tracer;
+    }
+
+    public static Tracer getTracer() {
+        return tracer;
+    }
+
+    Object toDestination(Mapper<Object, Object> mapper, Object value, Object target, MappingContext context, Class<?> expectedReturnType, TransformListener listener) {
+        long startTime = System.nanoTime();
+
+        Object result;
         try {
+            result = mapper.toDestination(value, target, context);
+        } catch (RuntimeException error) {
+            listener.onTransformFailed(value.getClass(), expectedReturnType, error);
+            throw error;
+        }
 
-            String transformerCanonicalName = getTransformerCanonicalName();
-            AbstractTransformer transformer = getTransformerInstance(transformerCanonicalName);
-            Object mapperInstance = getMapperInstance(transformer, value);
-            result = executeTransformation(mapperInstance, value);
-            
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        listener.onTransformed(value.getClass(), expectedReturnType != null ? expectedReturnType : result.getClass(), System.nanoTime() - startTime);
+        return result;
+    }
+
+    /**
+     * Resolves the mapper of the value among the transformers of all the packages. When the type is linked
+     * with several types the expected return type chooses one of them, and it is an error to leave the choice
+     * ambiguous.
+     */
+    Mapper<Object, Object> getMapper(Object value, Class<?> expectedReturnType) {
+        Mapper<Object, Object> result = null;
+
+        for (AbstractTransformer transformer : getCachedTransformerInstances()) {
+            Mapper<Object, Object> mapper = getMapperInstance(transformer, value, expectedReturnType);
+            if (mapper != null) {
+                if (result != null)
+                    throw new IllegalArgumentException(String.format("The '%s' type is linked with several types, set the expected return type to choose one of them.", value.getClass().getName()));
+                result = mapper;
+            }
         }
-        
-        return (T)result;
+
+        if (result == null)
+            throw new IllegalArgumentException(String.format("There is not a mapper linked with the '%s' type.", value.getClass().getName()));
+
+        return result;
     }
-    
+
+    private AbstractTransformer[] getCachedTransformerInstances() {
+        AbstractTransformer[] result = transformerInstances;
+
+        if (result == null) {
+            result = transformersCache.get(transformerType);
+            if (result == null) {
+                result = getRegisteredTransformerInstances();
+                if (result.length == 0)
+                    result = new AbstractTransformer[] { getTransformerInstance(getTransformerCanonicalName()) };
+
+                AbstractTransformer[] cachedResult = transformersCache.putIfAbsent(transformerType, result);
+                if (cachedResult != null)
+                    result = cachedResult;
+            }
+            transformerInstances = result;
+        }
+
+        return result;
+    }
+
+    private AbstractTransformer[] getRegisteredTransformerInstances() {
+        List<AbstractTransformer> result = new ArrayList<>();
+
+        for (AbstractTransformerRegistry registry : RegistriesHolder.INSTANCE) {
+            for (AbstractTransformer transformer : registry.getTransformers(transformerType)) {
+                if (!result.contains(transformer))
+                    result.add(transformer);
+            }
+        }
+
+        return result.toArray(new AbstractTransformer[result.size()]);
+    }
+
+    /**
+     * The transformers of the modules compiled with older versions of the library are not registered, they
+     * are found by the name of the package of the type.
+     */
     private String getTransformerCanonicalName() {
         String result;
         
@@ -109,16 +653,197 @@ public final class Transformer {
         return result;
     }
     
-    private Object getMapperInstance(AbstractTransformer transformer, Object value) {
-        return transformer.getMapper(value);
+    private Mapper<Object, Object> getMapperInstance(AbstractTransformer transformer, Object value, Class<?> expectedReturnType) {
+        return transformer.getMapper(value, expectedReturnType);
     }
-    
-    private Object executeTransformation(Object mapper, Object value) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Object result = null;
-        Method transforMethod = mapper.getClass().getMethod("transform", value.getClass());
-        if (transforMethod != null)
-            result = transforMethod.invoke(mapper, value);
-        
-        return result;
+
+    /**
+     * The registries generated for each module, loaded once per process the first time a Transformer is used.
+     */
+    private static class RegistriesHolder {
+        static final List<AbstractTransformerRegistry> INSTANCE = loadRegistries();
+
+        private static List<AbstractTransformerRegistry> loadRegistries() {
+            List<AbstractTransformerRegistry> result = new ArrayList<>();
+
+            ServiceLoader<AbstractTransformerRegistry> loader = ServiceLoader.load(AbstractTransformerRegistry.class, Transformer.class.getClassLoader());
+            for (AbstractTransformerRegistry registry : loader)
+                result.add(registry);
+
+            return result;
+        }
+    }
+
+    private static class ParallelPoolHolder {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+
+    private class TransformChunk implements Runnable {
+        private final Object[] source;
+        private final Object[] result;
+        private final int from;
+        private final int to;
+        private final Class<?> expectedReturnType;
+        private final CountDownLatch pendingChunks;
+        private final AtomicReference<Throwable> error;
+
+        TransformChunk(Object[] source, Object[] result, int from, int to, Class<?> expectedReturnType, CountDownLatch pendingChunks, AtomicReference<Throwable> error) {
+            this.source = source;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.expectedReturnType = expectedReturnType;
+            this.pendingChunks = pendingChunks;
+            this.error = error;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (error.get() == null)
+                    transformRange(source, result, from, to, expectedReturnType);
+            } catch (Throwable chunkError) {
+                error.compareAndSet(null, chunkError);
+            } finally {
+                pendingChunks.countDown();
+            }
+        }
+    }
+
+    private static class WarmUpTask implements Callable<WarmUpReport> {
+        private final int iterations;
+        private final Class<?>[] types;
+        private long transformationsCount;
+
+        WarmUpTask(int iterations, Class<?>[] types) {
+            this.iterations = iterations;
+            this.types = types;
+        }
+
+        @Override
+        public WarmUpReport call() {
+            long startTime = System.nanoTime();
+            int warmedUpTypesCount = 0;
+            Map<Class<?>, RuntimeException> failures = new LinkedHashMap<>();
+
+            for (Class<?> type : types) {
+                if (type != null) {
+                    try {
+                        warmUp(type);
+                        warmedUpTypesCount++;
+                    } catch (RuntimeException error) {
+                        failures.put(type, error);
+                    }
+                }
+            }
+
+            return new WarmUpReport(System.nanoTime() - startTime, warmedUpTypesCount, transformationsCount, failures);
+        }
+
+        /**
+         * Every transformer linked with the type is warmed up, so a type linked from several packages warms up
+         * the mappers of all of them.
+         */
+        private void warmUp(Class<?> type) {
+            AbstractTransformer[] transformers = new Transformer(type).getCachedTransformerInstances();
+            for (AbstractTransformer transformer : transformers)
+                transformer.loadMappers();
+
+            if (iterations <= 0)
+                return;
+
+            Object value;
+            try {
+                value = type.getConstructor().newInstance();
+            } catch (Exception error) {
+                throw new IllegalArgumentException(String.format("The '%s' type cannot be created with a public default constructor.", type.getName()), error);
+            }
+
+            for (AbstractTransformer transformer : transformers) {
+                Mapper<Object, Object> mapper = transformer.getMapper(value, null);
+                if (mapper != null) {
+                    for (int iteration = 0; iteration < iterations; iteration++) {
+                        mapper.toDestination(value);
+                        transformationsCount++;
+                    }
+                }
+            }
+        }
+    }
+
+    private class TransformTask<T> implements Callable<T> {
+        private final Object value;
+        private final Class<T> expectedReturnType;
+        private final TransformCallback<T> callback;
+
+        TransformTask(Object value, Class<T> expectedReturnType, TransformCallback<T> callback) {
+            this.value = value;
+            this.expectedReturnType = expectedReturnType;
+            this.callback = callback;
+        }
+
+        @Override
+        public T call() {
+            T result;
+
+            try {
+                result = transform(value, expectedReturnType);
+            } catch (RuntimeException error) {
+                if (callback != null)
+                    callback.onError(error);
+                throw error;
+            }
+
+            if (callback != null)
+                callback.onTransformed(result);
+
+            return result;
+        }
+    }
+
+    private class TransformAllTask<T> implements Callable<List<T>> {
+        private final Object[] source;
+        private final Class<T> expectedReturnType;
+        private final TransformAllCallback<T> callback;
+
+        TransformAllTask(Object[] source, Class<T> expectedReturnType, TransformAllCallback<T> callback) {
+            this.source = source;
+            this.expectedReturnType = expectedReturnType;
+            this.callback = callback;
+        }
+
+        @Override
+        public List<T> call() {
+            Tracer currentTracer = tracer;
+            long startTime = currentTracer != null ? System.nanoTime() : 0;
+
+            Object[] transformed = new Object[source.length];
+            List<T> result = (List<T>)Arrays.asList(transformed);
+
+            try {
+                for (int from = 0; from < source.length; from += ASYNC_CHUNK_SIZE) {
+                    if (Thread.currentThread().isInterrupted())
+                        return null;
+
+                    int to = Math.min(source.length, from + ASYNC_CHUNK_SIZE);
+                    transformRange(source, transformed, from, to, expectedReturnType);
+
+                    if (callback != null)
+                        callback.onChunkTransformed(result.subList(from, to), from);
+                }
+            } catch (RuntimeException error) {
+                if (callback != null)
+                    callback.onError(error);
+                throw error;
+            }
+
+            if (currentTracer != null)
+                currentTracer.onTransformBatch(expectedReturnType, source.length, startTime, System.nanoTime() - startTime);
+
+            if (callback != null)
+                callback.onTransformed(result);
+
+            return result;
+        }
     }
 }
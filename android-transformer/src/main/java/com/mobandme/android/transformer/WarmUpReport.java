@@ -0,0 +1,83 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+package com.mobandme.android.transformer;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of a warm-up started with {@link Transformer#warmUp(java.util.concurrent.Executor, int, Class[])}.
+ */
+public final class WarmUpReport {
+    private final long elapsedTime;
+    private final int warmedUpTypesCount;
+    private final long transformationsCount;
+    private final Map<Class<?>, RuntimeException> failures;
+
+    public WarmUpReport(long elapsedTime, int warmedUpTypesCount, long transformationsCount, Map<Class<?>, RuntimeException> failures) {
+        this.elapsedTime = elapsedTime;
+        this.warmedUpTypesCount = warmedUpTypesCount;
+        this.transformationsCount = transformationsCount;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Duration of the warm-up in nanoseconds.
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Number of types whose mappers were loaded and, when iterations were requested, transformed without errors.
+     */
+    public int getWarmedUpTypesCount() {
+        return warmedUpTypesCount;
+    }
+
+    /**
+     * Number of synthetic transformations that were run without errors.
+     */
+    public long getTransformationsCount() {
+        return transformationsCount;
+    }
+
+    /**
+     * The types that could not be warmed up completely, with the error that stopped each one.
+     */
+    public Map<Class<?>, RuntimeException> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpReport{" +
+                "elapsedTime=" + elapsedTime +
+                ", warmedUpTypesCount=" + warmedUpTypesCount +
+                ", transformationsCount=" + transformationsCount +
+                ", failures=" + failures.keySet() +
+                '}';
+    }
+}
@@ -25,23 +25,249 @@
 
 package com.mobandme.android.transformer.internal;
 
-import java.util.HashMap;
+import com.mobandme.android.transformer.CacheStatistics;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Base class of the generated transformers. The mappers are registered while the instance is being
+ * built and the registry is immutable after that, so an instance can be safely shared between threads.
+ * The mappers registered by index are created the first time their types are transformed.
+ */
 public abstract class AbstractTransformer {
-    protected HashMap<String, Object> mapperList = new HashMap<>();
-    
-    public Object getMapper(Object value) {
-        Object result = null;
-        String classCanonicalName = value.getClass().getCanonicalName();
-        
-        if (mapperList.containsKey(classCanonicalName))
-            result = mapperList.get(classCanonicalName);
-        
+    private final Map<Class<?>, MapperEntry> mapperList;
+    private Map<Class<?>, MapperEntry> pendingMappers;
+
+    protected AbstractTransformer() {
+        pendingMappers = new IdentityHashMap<>();
+        onRegisterMappers();
+        mapperList = Collections.unmodifiableMap(pendingMappers);
+        pendingMappers = null;
+    }
+
+    /**
+     * Override this method to register the mappers of the transformer using addMapper and addInverseMapper.
+     */
+    protected abstract void onRegisterMappers();
+
+    /**
+     * Override this method to create the mappers registered by index.
+     * @param mapperIndex The index used to register the mapper.
+     * @return The mapper, the same instance can be returned for several indexes.
+     */
+    protected Mapper<?, ?> createMapper(int mapperIndex) {
+        throw new IllegalArgumentException(String.format("There is not a mapper with the index %d.", mapperIndex));
+    }
+
+    /**
+     * Returns the mapper linked with the type of the value, oriented so that
+     * {@link Mapper#toDestination(Object)} accepts instances of that type. The subclasses of a linked
+     * type, like the lazy objects, use the mapper of the nearest linked superclass.
+     * @param value Instance of the source object.
+     * @return The linked mapper or null if the type has not a linked mapper.
+     */
+    public Mapper<Object, Object> getMapper(Object value) {
+        return getMapper(value, null);
+    }
+
+    /**
+     * Returns the mapper linked with the type of the value whose linked type is compatible with the expected
+     * type. A type linked with several classes of the package is resolved with the expected type.
+     * @param value Instance of the source object.
+     * @param expectedReturnType The expected linked type, or null to accept any linked type.
+     * @return The linked mapper or null if the type has not a compatible linked mapper.
+     * @throws IllegalArgumentException If several linked types are compatible with the expected type.
+     */
+    public Mapper<Object, Object> getMapper(Object value, Class<?> expectedReturnType) {
+        MapperEntry result = null;
+
+        for (Class<?> type = value.getClass(); result == null && type != null; type = type.getSuperclass()) {
+            for (MapperEntry entry = mapperList.get(type); entry != null; entry = entry.next) {
+                if (entry.isLinkedWith(expectedReturnType)) {
+                    if (result != null)
+                        throw new IllegalArgumentException(String.format("The '%s' type is linked with several types, set the expected return type to choose one of them.", type.getName()));
+                    result = entry;
+                }
+            }
+        }
+
+        return result != null ? getMapper(result) : null;
+    }
+
+    private Mapper<Object, Object> getMapper(MapperEntry entry) {
+        Mapper<Object, Object> result = entry.mapper;
+
+        if (result == null) {
+            synchronized (entry) {
+                result = entry.mapper;
+                if (result == null) {
+                    result = (Mapper<Object, Object>)createMapper(entry.mapperIndex);
+                    if (entry.inverse)
+                        result = new InverseMapper<>(result);
+                    if (entry.cacheSize > 0)
+                        result = new CachingMapper<>(result, entry.cacheSize);
+                    entry.mapper = result;
+                }
+            }
+        }
+
         return result;
     }
-    
-    protected void addMapper(String classCanonicalName, Object mapper) {
-        if (!mapperList.containsKey(classCanonicalName))
-            mapperList.put(classCanonicalName, mapper);
+
+    /**
+     * Creates all the mappers that are not created yet, loading their classes and the classes of their parsers.
+     */
+    public void loadMappers() {
+        for (MapperEntry entry : mapperList.values()) {
+            for (; entry != null; entry = entry.next)
+                getMapper(entry);
+        }
+    }
+
+    protected void addMapper(Class<?> type, Mapper<?, ?> mapper) {
+        addMapperEntry(type, new MapperEntry((Mapper<Object, Object>)mapper));
+    }
+
+    protected void addInverseMapper(Class<?> type, Mapper<?, ?> mapper) {
+        addMapper(type, new InverseMapper<>(mapper));
+    }
+
+    /**
+     * Registers a mapper whose results are cached by source instance.
+     * @param cacheSize The maximum number of cached results, zero to register the mapper without a cache.
+     */
+    protected void addMapper(Class<?> type, Mapper<?, ?> mapper, int cacheSize) {
+        addMapper(type, cacheSize > 0 ? new CachingMapper<>(mapper, cacheSize) : mapper);
+    }
+
+    /**
+     * Registers the inverse view of a mapper whose results are cached by source instance.
+     * @param cacheSize The maximum number of cached results, zero to register the mapper without a cache.
+     */
+    protected void addInverseMapper(Class<?> type, Mapper<?, ?> mapper, int cacheSize) {
+        addMapper(type, new InverseMapper<>(mapper), cacheSize);
+    }
+
+    /**
+     * Registers a mapper that is created with createMapper the first time the type is transformed.
+     * @param mapperIndex The index passed to createMapper.
+     * @param cacheSize The maximum number of cached results, zero to register the mapper without a cache.
+     */
+    protected void addMapper(Class<?> type, int mapperIndex, int cacheSize) {
+        addMapper(type, null, mapperIndex, cacheSize);
+    }
+
+    /**
+     * Registers a mapper that is created with createMapper the first time the type is transformed to the
+     * linked type, the same type can be registered with several linked types.
+     * @param linkedType The type of the objects returned by the mapper.
+     * @param mapperIndex The index passed to createMapper.
+     * @param cacheSize The maximum number of cached results, zero to register the mapper without a cache.
+     */
+    protected void addMapper(Class<?> type, Class<?> linkedType, int mapperIndex, int cacheSize) {
+        addMapperEntry(type, new MapperEntry(linkedType, mapperIndex, false, cacheSize));
+    }
+
+    /**
+     * Registers the inverse view of a mapper that is created with createMapper the first time the type is
+     * transformed.
+     * @param mapperIndex The index passed to createMapper.
+     * @param cacheSize The maximum number of cached results, zero to register the mapper without a cache.
+     */
+    protected void addInverseMapper(Class<?> type, int mapperIndex, int cacheSize) {
+        addInverseMapper(type, null, mapperIndex, cacheSize);
+    }
+
+    /**
+     * Registers the inverse view of a mapper that is created with createMapper the first time the type is
+     * transformed to the linked type, the same type can be registered with several linked types.
+     * @param linkedType The type of the objects returned by the inverse view of the mapper.
+     * @param mapperIndex The index passed to createMapper.
+     * @param cacheSize The maximum number of cached results, zero to register the mapper without a cache.
+     */
+    protected void addInverseMapper(Class<?> type, Class<?> linkedType, int mapperIndex, int cacheSize) {
+        addMapperEntry(type, new MapperEntry(linkedType, mapperIndex, true, cacheSize));
+    }
+
+    private void addMapperEntry(Class<?> type, MapperEntry entry) {
+        if (pendingMappers == null)
+            throw new IllegalStateException("The mappers can only be registered from onRegisterMappers.");
+
+        MapperEntry lastEntry = pendingMappers.get(type);
+        if (lastEntry == null) {
+            pendingMappers.put(type, entry);
+            return;
+        }
+
+        for (MapperEntry current = lastEntry; current != null; current = current.next) {
+            if (entry.linkedType == null || current.linkedType == null || current.linkedType == entry.linkedType)
+                return;
+            lastEntry = current;
+        }
+        lastEntry.next = entry;
+    }
+
+    /**
+     * Returns the counters of the result cache of a type, the counters of a type linked with several types
+     * are added up.
+     * @param type The source type.
+     * @return The counters, or null if the results of the type are not cached.
+     */
+    public CacheStatistics getCacheStatistics(Class<?> type) {
+        CacheStatistics result = null;
+
+        for (MapperEntry entry = mapperList.get(type); entry != null; entry = entry.next) {
+            Mapper<Object, Object> mapper = getMapper(entry);
+            if (mapper instanceof CachingMapper) {
+                CacheStatistics statistics = ((CachingMapper<Object, Object>)mapper).getStatistics();
+                result = result != null ? result.plus(statistics) : statistics;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all the cached results, the counters are kept.
+     */
+    public void clearCaches() {
+        for (MapperEntry entry : mapperList.values()) {
+            for (; entry != null; entry = entry.next) {
+                Mapper<Object, Object> mapper = entry.mapper;
+                if (mapper instanceof CachingMapper)
+                    ((CachingMapper<Object, Object>)mapper).clear();
+            }
+        }
+    }
+
+    private static final class MapperEntry {
+        final Class<?> linkedType;
+        final int mapperIndex;
+        final boolean inverse;
+        final int cacheSize;
+        MapperEntry next;
+        volatile Mapper<Object, Object> mapper;
+
+        MapperEntry(Mapper<Object, Object> mapper) {
+            this(null, -1, false, 0);
+            this.mapper = mapper;
+        }
+
+        MapperEntry(Class<?> linkedType, int mapperIndex, boolean inverse, int cacheSize) {
+            this.linkedType = linkedType;
+            this.mapperIndex = mapperIndex;
+            this.inverse = inverse;
+            this.cacheSize = cacheSize;
+        }
+
+        /**
+         * The entries registered without a linked type are compatible with any expected type.
+         */
+        boolean isLinkedWith(Class<?> expectedReturnType) {
+            return expectedReturnType == null || linkedType == null
+                    || expectedReturnType.isAssignableFrom(linkedType) || linkedType.isAssignableFrom(expectedReturnType);
+        }
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Base class of the registries generated for each compiled module. A registry knows which of the generated
+ * transformers of its module have a mapper for each type, and creates those transformers the first time
+ * they are needed. The registries are found with {@link java.util.ServiceLoader}.
+ */
+public abstract class AbstractTransformerRegistry {
+    private final Map<Class<?>, List<Integer>> typesList;
+    private Map<Class<?>, List<Integer>> pendingTypes;
+    private final AtomicReferenceArray<AbstractTransformer> transformers;
+
+    protected AbstractTransformerRegistry(int transformersCount) {
+        transformers = new AtomicReferenceArray<>(transformersCount);
+        pendingTypes = new IdentityHashMap<>();
+        onRegisterTypes();
+        typesList = Collections.unmodifiableMap(pendingTypes);
+        pendingTypes = null;
+    }
+
+    /**
+     * Override this method to register the types of each transformer using addType.
+     */
+    protected abstract void onRegisterTypes();
+
+    /**
+     * Override this method to create the transformer registered with an index.
+     */
+    protected abstract AbstractTransformer createTransformer(int transformerIndex);
+
+    protected void addType(Class<?> type, int transformerIndex) {
+        if (pendingTypes == null)
+            throw new IllegalStateException("The types can only be registered from onRegisterTypes.");
+
+        List<Integer> transformerIndexes = pendingTypes.get(type);
+        if (transformerIndexes == null) {
+            transformerIndexes = new ArrayList<>(1);
+            pendingTypes.put(type, transformerIndexes);
+        }
+        if (!transformerIndexes.contains(transformerIndex))
+            transformerIndexes.add(transformerIndex);
+    }
+
+    /**
+     * Returns the transformers with a mapper for the type, in the same order than they were registered.
+     * @param type The mappable or linked type.
+     * @return The transformers, or an empty list if the type is not registered.
+     */
+    public List<AbstractTransformer> getTransformers(Class<?> type) {
+        List<Integer> transformerIndexes = typesList.get(type);
+        if (transformerIndexes == null)
+            return Collections.emptyList();
+
+        List<AbstractTransformer> result = new ArrayList<>(transformerIndexes.size());
+        for (int transformerIndex : transformerIndexes)
+            result.add(getTransformer(transformerIndex));
+
+        return result;
+    }
+
+    private AbstractTransformer getTransformer(int transformerIndex) {
+        AbstractTransformer result = transformers.get(transformerIndex);
+
+        if (result == null) {
+            result = createTransformer(transformerIndex);
+            if (!transformers.compareAndSet(transformerIndex, null, result))
+                result = transformers.get(transformerIndex);
+        }
+
+        return result;
+    }
+}
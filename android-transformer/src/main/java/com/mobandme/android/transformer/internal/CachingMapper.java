@@ -0,0 +1,206 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.internal;
+
+import com.mobandme.android.transformer.CacheStatistics;
+import com.mobandme.android.transformer.MappingContext;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mapper decorator that remembers the last transformed objects by their identity, so transforming the same
+ * source instance again returns the same result. The sources are weakly referenced and the least recently
+ * used results are removed when the cache is full. Only the transformations without a target or a context
+ * use the cache, the other methods are delegated to the mapper.
+ */
+final class CachingMapper<S, D> implements Mapper<S, D> {
+    private final Mapper<S, D> mapper;
+    private final int maxSize;
+    private final ReferenceQueue<Object> staleKeys = new ReferenceQueue<>();
+    private final LookupKey lookupKey = new LookupKey();
+    private final Map<Object, D> entries;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    CachingMapper(Mapper<S, D> mapper, final int maxSize) {
+        this.mapper = mapper;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Object, D>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, D> eldest) {
+                boolean result = size() > maxSize;
+                if (result)
+                    evictionCount++;
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public D toDestination(S data) {
+        if (data == null)
+            return mapper.toDestination(null);
+
+        D result;
+
+        synchronized (entries) {
+            lookupKey.referent = data;
+            result = entries.get(lookupKey);
+            lookupKey.referent = null;
+
+            if (result != null) {
+                hitCount++;
+                return result;
+            }
+            missCount++;
+        }
+
+        result = mapper.toDestination(data);
+
+        synchronized (entries) {
+            removeStaleEntries();
+            entries.put(new WeakKey(data, staleKeys), result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public S toOrigin(D data) {
+        return mapper.toOrigin(data);
+    }
+
+    @Override
+    public D toDestination(S data, D target) {
+        return target == null ? toDestination(data) : mapper.toDestination(data, target);
+    }
+
+    @Override
+    public S toOrigin(D data, S target) {
+        return mapper.toOrigin(data, target);
+    }
+
+    @Override
+    public D toDestination(S data, D target, MappingContext context) {
+        return target == null && context == null ? toDestination(data) : mapper.toDestination(data, target, context);
+    }
+
+    @Override
+    public S toOrigin(D data, S target, MappingContext context) {
+        return mapper.toOrigin(data, target, context);
+    }
+
+    @Override
+    public D toDestinationLazy(S data) {
+        return mapper.toDestinationLazy(data);
+    }
+
+    @Override
+    public S toOriginLazy(D data) {
+        return mapper.toOriginLazy(data);
+    }
+
+    @Override
+    public int getSnapshotSize() {
+        return mapper.getSnapshotSize();
+    }
+
+    @Override
+    public D toDestinationChanged(S data, D target, Object[] snapshot) {
+        return mapper.toDestinationChanged(data, target, snapshot);
+    }
+
+    @Override
+    public S toOriginChanged(D data, S target, Object[] snapshot) {
+        return mapper.toOriginChanged(data, target, snapshot);
+    }
+
+    CacheStatistics getStatistics() {
+        synchronized (entries) {
+            removeStaleEntries();
+            return new CacheStatistics(hitCount, missCount, evictionCount, entries.size(), maxSize);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+            while (staleKeys.poll() != null) { }
+        }
+    }
+
+    private void removeStaleEntries() {
+        Reference<?> staleKey;
+        while ((staleKey = staleKeys.poll()) != null)
+            entries.remove(staleKey);
+    }
+
+    private static final class WeakKey extends WeakReference<Object> {
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this)
+                return true;
+
+            Object referent = get();
+            return referent != null && other instanceof WeakKey && ((WeakKey)other).get() == referent;
+        }
+    }
+
+    /**
+     * Reusable key used to look up a source without creating a weak reference, it is only used while
+     * holding the lock of the entries.
+     */
+    private static final class LookupKey {
+        private Object referent;
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WeakKey && ((WeakKey)other).get() == referent;
+        }
+    }
+}
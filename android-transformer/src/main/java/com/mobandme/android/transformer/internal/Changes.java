@@ -0,0 +1,77 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.internal;
+
+/**
+ * Change checks used by the generated mappers to compare the fields of a source object with the values
+ * recorded on its last transformation. The objects are compared by reference and the primitives by value.
+ */
+public final class Changes {
+
+    /**
+     * Initial value of the snapshot slots, it is different from any field value so the first
+     * transformation maps all the fields.
+     */
+    public static final Object UNSET = new Object();
+
+    private Changes() { }
+
+    public static boolean isChanged(Object previous, Object value) {
+        return previous != value;
+    }
+
+    public static boolean isChanged(Object previous, boolean value) {
+        return !(previous instanceof Boolean) || (Boolean)previous != value;
+    }
+
+    public static boolean isChanged(Object previous, byte value) {
+        return !(previous instanceof Byte) || (Byte)previous != value;
+    }
+
+    public static boolean isChanged(Object previous, short value) {
+        return !(previous instanceof Short) || (Short)previous != value;
+    }
+
+    public static boolean isChanged(Object previous, char value) {
+        return !(previous instanceof Character) || (Character)previous != value;
+    }
+
+    public static boolean isChanged(Object previous, int value) {
+        return !(previous instanceof Integer) || (Integer)previous != value;
+    }
+
+    public static boolean isChanged(Object previous, long value) {
+        return !(previous instanceof Long) || (Long)previous != value;
+    }
+
+    public static boolean isChanged(Object previous, float value) {
+        return !(previous instanceof Float) || Float.floatToIntBits((Float)previous) != Float.floatToIntBits(value);
+    }
+
+    public static boolean isChanged(Object previous, double value) {
+        return !(previous instanceof Double) || Double.doubleToLongBits((Double)previous) != Double.doubleToLongBits(value);
+    }
+}
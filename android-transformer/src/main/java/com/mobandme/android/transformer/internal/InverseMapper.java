@@ -0,0 +1,94 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.internal;
+
+import com.mobandme.android.transformer.MappingContext;
+
+/**
+ * Mapper view that swaps the directions of another mapper, used to register a mapper by its destination type.
+ */
+final class InverseMapper<S, D> implements Mapper<D, S> {
+    private final Mapper<S, D> mapper;
+
+    InverseMapper(Mapper<S, D> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public S toDestination(D data) {
+        return mapper.toOrigin(data);
+    }
+
+    @Override
+    public D toOrigin(S data) {
+        return mapper.toDestination(data);
+    }
+
+    @Override
+    public S toDestination(D data, S target) {
+        return mapper.toOrigin(data, target);
+    }
+
+    @Override
+    public D toOrigin(S data, D target) {
+        return mapper.toDestination(data, target);
+    }
+
+    @Override
+    public S toDestination(D data, S target, MappingContext context) {
+        return mapper.toOrigin(data, target, context);
+    }
+
+    @Override
+    public D toOrigin(S data, D target, MappingContext context) {
+        return mapper.toDestination(data, target, context);
+    }
+
+    @Override
+    public S toDestinationLazy(D data) {
+        return mapper.toOriginLazy(data);
+    }
+
+    @Override
+    public D toOriginLazy(S data) {
+        return mapper.toDestinationLazy(data);
+    }
+
+    @Override
+    public int getSnapshotSize() {
+        return mapper.getSnapshotSize();
+    }
+
+    @Override
+    public S toDestinationChanged(D data, S target, Object[] snapshot) {
+        return mapper.toOriginChanged(data, target, snapshot);
+    }
+
+    @Override
+    public D toOriginChanged(S data, D target, Object[] snapshot) {
+        return mapper.toDestinationChanged(data, target, snapshot);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.internal;
+
+import com.mobandme.android.transformer.MappingContext;
+
+/**
+ * Contract implemented by every generated mapper, it links an origin type with its destination type.
+ * @param <S> The origin type, the one annotated with @Mappable.
+ * @param <D> The destination type, the one configured on the 'with' property of @Mappable.
+ */
+public interface Mapper<S, D> {
+
+    /**
+     * Transforms an origin object to its linked destination object.
+     * @param data Instance of the origin object.
+     * @return An instance of the destination object.
+     */
+    D toDestination(S data);
+
+    /**
+     * Transforms a destination object back to its linked origin object.
+     * @param data Instance of the destination object.
+     * @return An instance of the origin object.
+     */
+    S toOrigin(D data);
+
+    /**
+     * Fills an existing destination object with the data of an origin object, the nested mapped
+     * objects of the target are reused when they are not null.
+     * @param data Instance of the origin object.
+     * @param target Instance of the destination object to fill, a new instance is created when it is null.
+     * @return The filled destination object, or null if data is null.
+     */
+    D toDestination(S data, D target);
+
+    /**
+     * Fills an existing origin object with the data of a destination object, the nested mapped
+     * objects of the target are reused when they are not null.
+     * @param data Instance of the destination object.
+     * @param target Instance of the origin object to fill, a new instance is created when it is null.
+     * @return The filled origin object, or null if data is null.
+     */
+    S toOrigin(D data, S target);
+
+    /**
+     * Fills an existing destination object like {@link #toDestination(Object, Object)} recording the mapped
+     * objects on the context, so the shared objects of the graph are mapped once and the cycles terminate.
+     * @param data Instance of the origin object.
+     * @param target Instance of the destination object to fill, a new instance is created when it is null.
+     * @param context The context of the current mapping, or null to map without tracking the identities.
+     * @return The filled destination object, or null if data is null.
+     */
+    D toDestination(S data, D target, MappingContext context);
+
+    /**
+     * Fills an existing origin object like {@link #toOrigin(Object, Object)} recording the mapped
+     * objects on the context, so the shared objects of the graph are mapped once and the cycles terminate.
+     * @param data Instance of the destination object.
+     * @param target Instance of the origin object to fill, a new instance is created when it is null.
+     * @param context The context of the current mapping, or null to map without tracking the identities.
+     * @return The filled origin object, or null if data is null.
+     */
+    S toOrigin(D data, S target, MappingContext context);
+
+    /**
+     * Transforms an origin object to a lazy destination object, the fields read through getters are mapped
+     * the first time they are read. Mappers of classes that are not lazy transform the object at once.
+     * @param data Instance of the origin object.
+     * @return An instance of the destination object, or null if data is null.
+     */
+    D toDestinationLazy(S data);
+
+    /**
+     * Transforms a destination object to a lazy origin object, the fields read through getters are mapped
+     * the first time they are read. Mappers of classes that are not lazy transform the object at once.
+     * @param data Instance of the destination object.
+     * @return An instance of the origin object, or null if data is null.
+     */
+    S toOriginLazy(D data);
+
+    /**
+     * Returns the number of slots of the snapshots used by {@link #toDestinationChanged(Object, Object, Object[])},
+     * one for each mapped field.
+     */
+    int getSnapshotSize();
+
+    /**
+     * Fills an existing destination object with the fields of the origin object that changed since the values
+     * recorded on the snapshot, and records the new values. Mappers of classes that do not track their changes
+     * fill all the fields.
+     * @param data Instance of the origin object.
+     * @param target Instance of the destination object to fill.
+     * @param snapshot The values of the origin fields on the last transformation.
+     * @return The filled destination object.
+     */
+    D toDestinationChanged(S data, D target, Object[] snapshot);
+
+    /**
+     * Fills an existing origin object with the fields of the destination object that changed since the values
+     * recorded on the snapshot, and records the new values.
+     * @see #toDestinationChanged(Object, Object, Object[])
+     */
+    S toOriginChanged(D data, S target, Object[] snapshot);
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.internal;
+
+/**
+ * Unboxing used by the generated mappers when a wrapper field is mapped to a primitive field. A null value
+ * cannot be mapped to a primitive field and is rejected with a NullPointerException, the same than the
+ * primitive parsers do, instead of being converted to a default value that would hide the missing data.
+ */
+public final class Primitives {
+    public static final String NULL_VALUE_MESSAGE = "A null value cannot be mapped to a primitive field.";
+
+    private Primitives() { }
+
+    public static boolean unbox(Boolean value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static byte unbox(Byte value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static short unbox(Short value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static char unbox(Character value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static int unbox(Integer value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static long unbox(Long value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static float unbox(Float value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+
+    public static double unbox(Double value) {
+        if (value == null)
+            throw new NullPointerException(NULL_VALUE_MESSAGE);
+
+        return value;
+    }
+}
@@ -26,12 +26,18 @@
 package com.mobandme.android.transformer.parser;
 
 /**
- * This is the base class to implement a custom parser to your transformations.
+ * This is the base class to implement a custom parser to your transformations. The generated mappers
+ * create one instance of each parser per thread, if your parser does not keep state use the
+ * {@link ThreadSafe} annotation on it to share one instance between threads.
  */
 public abstract class AbstractParser<T1, T2> {
     
     public final T2 parse(T1 value) {
-        return onParse(value);
+        long startTime = Tracing.start();
+        T2 result = onParse(value);
+        Tracing.end(getClass(), startTime);
+
+        return result;
     }
 
     /**
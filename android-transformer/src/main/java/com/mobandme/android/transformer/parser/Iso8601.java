@@ -0,0 +1,273 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.parser;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * ISO-8601 date and time conversions based on hand-rolled digit parsing, without SimpleDateFormat.
+ * Supports the 'yyyy-MM-dd[THH:mm[:ss[.SSS]]][Z|+HH[:mm]]' forms using the proleptic Gregorian calendar,
+ * the values without offset are read as UTC.
+ */
+public final class Iso8601 {
+    static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final int MILLIS_PER_SECOND = 1000;
+    private static final int MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final int MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+    private static final int UTC_FORMAT_LENGTH = 24;
+    private static final int OFFSET_FORMAT_LENGTH = 29;
+
+    private Iso8601() { }
+
+    /**
+     * Parses an ISO-8601 date or date time.
+     * @param value The text to parse.
+     * @return The epoch milliseconds of the value.
+     * @throws IllegalArgumentException If the value is not a valid ISO-8601 date.
+     */
+    public static long parseMillis(String value) {
+        if (value == null)
+            throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+
+        int length = value.length();
+        int year = parseDigits(value, 0, 4);
+        expect(value, 4, '-');
+        int month = parseDigits(value, 5, 2);
+        expect(value, 7, '-');
+        int day = parseDigits(value, 8, 2);
+
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month))
+            throw invalid(value);
+
+        int hour = 0, minute = 0, second = 0, millis = 0, offset = 0;
+        int position = 10;
+
+        if (position < length && (value.charAt(position) == 'T' || value.charAt(position) == 't' || value.charAt(position) == ' ')) {
+            hour = parseDigits(value, position + 1, 2);
+            expect(value, position + 3, ':');
+            minute = parseDigits(value, position + 4, 2);
+            position += 6;
+
+            if (position < length && value.charAt(position) == ':') {
+                second = parseDigits(value, position + 1, 2);
+                position += 3;
+
+                if (position < length && (value.charAt(position) == '.' || value.charAt(position) == ',')) {
+                    int digits = 0;
+                    position++;
+                    while (position < length && isDigit(value.charAt(position))) {
+                        if (digits < 3)
+                            millis = millis * 10 + (value.charAt(position) - '0');
+                        digits++;
+                        position++;
+                    }
+                    if (digits == 0)
+                        throw invalid(value);
+                    for (; digits < 3; digits++)
+                        millis *= 10;
+                }
+            }
+
+            if (hour > 23 || minute > 59 || second > 59)
+                throw invalid(value);
+        }
+
+        if (position < length) {
+            char designator = value.charAt(position);
+            if (designator == 'Z' || designator == 'z') {
+                position++;
+            } else if (designator == '+' || designator == '-') {
+                int offsetHours = parseDigits(value, position + 1, 2);
+                int offsetMinutes = 0;
+                position += 3;
+
+                if (position < length) {
+                    if (value.charAt(position) == ':')
+                        position++;
+                    offsetMinutes = parseDigits(value, position, 2);
+                    position += 2;
+                }
+
+                if (offsetHours > 18 || offsetMinutes > 59)
+                    throw invalid(value);
+
+                offset = offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE;
+                if (designator == '-')
+                    offset = -offset;
+            }
+        }
+
+        if (position != length)
+            throw invalid(value);
+
+        return daysFromCivil(year, month, day) * MILLIS_PER_DAY
+                + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + millis
+                - offset;
+    }
+
+    /**
+     * Parses an ISO-8601 date or date time to a Calendar in UTC.
+     * @param value The text to parse.
+     * @return A new Calendar instance in UTC.
+     */
+    public static Calendar parseCalendar(String value) {
+        Calendar result = Calendar.getInstance(UTC);
+        result.setTimeInMillis(parseMillis(value));
+        return result;
+    }
+
+    /**
+     * Formats epoch milliseconds as 'yyyy-MM-ddTHH:mm:ss.SSSZ' in UTC.
+     * @param millis The epoch milliseconds.
+     * @return The formatted value.
+     */
+    public static String formatMillis(long millis) {
+        char[] buffer = new char[UTC_FORMAT_LENGTH];
+        formatLocalMillis(buffer, millis);
+        buffer[23] = 'Z';
+        return new String(buffer);
+    }
+
+    /**
+     * Formats a Calendar as 'yyyy-MM-ddTHH:mm:ss.SSS+HH:mm' using the time zone of the calendar,
+     * the calendars in UTC are formatted with the 'Z' designator.
+     * @param value The calendar to format.
+     * @return The formatted value.
+     */
+    public static String formatCalendar(Calendar value) {
+        long millis = value.getTimeInMillis();
+        int offset = value.getTimeZone().getOffset(millis);
+
+        if (offset == 0)
+            return formatMillis(millis);
+
+        char[] buffer = new char[OFFSET_FORMAT_LENGTH];
+        formatLocalMillis(buffer, millis + offset);
+
+        int offsetMinutes = Math.abs(offset) / MILLIS_PER_MINUTE;
+        buffer[23] = offset < 0 ? '-' : '+';
+        writeDigits(buffer, 24, 2, offsetMinutes / 60);
+        buffer[26] = ':';
+        writeDigits(buffer, 27, 2, offsetMinutes % 60);
+        return new String(buffer);
+    }
+
+    private static void formatLocalMillis(char[] buffer, long localMillis) {
+        long days = floorDiv(localMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int)(localMillis - days * MILLIS_PER_DAY);
+
+        long shiftedDays = days + 719468;
+        long era = (shiftedDays >= 0 ? shiftedDays : shiftedDays - 146096) / 146097;
+        long dayOfEra = shiftedDays - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int)(dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int)(shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999)
+            throw new IllegalArgumentException(String.format("The year %d cannot be formatted as ISO-8601.", year));
+
+        writeDigits(buffer, 0, 4, (int)year);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, 2, month);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, 2, day);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, 2, millisOfDay / MILLIS_PER_HOUR);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, 2, millisOfDay / MILLIS_PER_MINUTE % 60);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, 2, millisOfDay / MILLIS_PER_SECOND % 60);
+        buffer[19] = '.';
+        writeDigits(buffer, 20, 3, millisOfDay % MILLIS_PER_SECOND);
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        long era = (year >= 0 ? year : year - 399) / 400;
+        long yearOfEra = year - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static long floorDiv(long dividend, long divisor) {
+        long result = dividend / divisor;
+        if ((dividend % divisor != 0) && ((dividend < 0) != (divisor < 0)))
+            result--;
+        return result;
+    }
+
+    private static int parseDigits(String value, int position, int count) {
+        if (position + count > value.length())
+            throw invalid(value);
+
+        int result = 0;
+        for (int index = position; index < position + count; index++) {
+            char digit = value.charAt(index);
+            if (!isDigit(digit))
+                throw invalid(value);
+            result = result * 10 + (digit - '0');
+        }
+        return result;
+    }
+
+    private static void writeDigits(char[] buffer, int position, int count, int value) {
+        for (int index = position + count - 1; index >= position; index--) {
+            buffer[index] = (char)('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static void expect(String value, int position, char expected) {
+        if (position >= value.length() || value.charAt(position) != expected)
+            throw invalid(value);
+    }
+
+    private static boolean isDigit(char value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static IllegalArgumentException invalid(String value) {
+        return new IllegalArgumentException(String.format("'%s' is not a valid ISO-8601 date.", value));
+    }
+}
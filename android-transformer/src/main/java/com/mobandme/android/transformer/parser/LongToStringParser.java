@@ -0,0 +1,57 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.parser;
+
+/**
+ * Formats long values as decimal texts, null values are kept as null. This is also the base class of the
+ * custom parsers that consume long values, override {@link #onParseLong(long)} and the generated mappers
+ * will call {@link #parse(long)} for long fields without boxing the value.
+ */
+@ThreadSafe
+public class LongToStringParser extends AbstractParser<Long, String> {
+
+    public final String parse(long value) {
+        long startTime = Tracing.start();
+        String result = onParseLong(value);
+        Tracing.end(getClass(), startTime);
+
+        return result;
+    }
+
+    /**
+     * Override this method to implement the logic of your parser.
+     * @param value The value that will to be parse.
+     * @return The parser result value.
+     */
+    protected String onParseLong(long value) {
+        return String.valueOf(value);
+    }
+
+    @Override
+    protected final String onParse(Long value) {
+        return value == null ? null : onParseLong(value.longValue());
+    }
+}
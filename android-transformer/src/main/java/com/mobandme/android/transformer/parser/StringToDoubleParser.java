@@ -0,0 +1,64 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.parser;
+
+import com.mobandme.android.transformer.internal.Primitives;
+
+/**
+ * Parses decimal texts to double values. This is also the base class of the custom parsers that produce double values,
+ * override {@link #onParseDouble(String)} and the generated mappers will call {@link #parseDouble(String)} for double
+ * fields without boxing the result. A null value is kept as null by {@link #parse(Object)}, used for the Double
+ * fields, and rejected with a NullPointerException by {@link #parseDouble(String)}, the same than a null Double
+ * mapped to a double field.
+ */
+@ThreadSafe
+public class StringToDoubleParser extends AbstractParser<String, Double> {
+
+    public final double parseDouble(String value) {
+        if (value == null)
+            throw new NullPointerException(Primitives.NULL_VALUE_MESSAGE);
+
+        long startTime = Tracing.start();
+        double result = onParseDouble(value);
+        Tracing.end(getClass(), startTime);
+
+        return result;
+    }
+
+    /**
+     * Override this method to implement the logic of your parser.
+     * @param value The value that will to be parse.
+     * @return The parser result value.
+     */
+    protected double onParseDouble(String value) {
+        return Double.parseDouble(value);
+    }
+
+    @Override
+    protected final Double onParse(String value) {
+        return value == null ? null : onParseDouble(value);
+    }
+}
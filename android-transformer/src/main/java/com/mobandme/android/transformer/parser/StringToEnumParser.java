@@ -0,0 +1,69 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses enum constant names to enum values using a lookup table built once per parser, null values are
+ * kept as null. Extend it with a no arguments constructor to use it on your @Parse annotations, the lookup table
+ * does not change after the constructor so the subclasses can be marked as {@link ThreadSafe}:
+ * <pre>
+ * &#64;ThreadSafe
+ * public class StringToColorParser extends StringToEnumParser&lt;Color&gt; {
+ *     public StringToColorParser() { super(Color.class); }
+ * }
+ * </pre>
+ */
+public abstract class StringToEnumParser<E extends Enum<E>> extends AbstractParser<String, E> {
+    private final Class<E> enumType;
+    private final Map<String, E> constants;
+
+    protected StringToEnumParser(Class<E> enumType) {
+        if (enumType == null)
+            throw new IllegalArgumentException("The 'enumType' parameter cannot be null.");
+
+        E[] values = enumType.getEnumConstants();
+        this.enumType = enumType;
+        this.constants = new HashMap<>(values.length * 2);
+        for (E value : values)
+            constants.put(value.name(), value);
+    }
+
+    @Override
+    protected E onParse(String value) {
+        E result = null;
+
+        if (value != null) {
+            result = constants.get(value);
+            if (result == null)
+                throw new IllegalArgumentException(String.format("'%s' is not a constant of %s.", value, enumType.getName()));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Txus Ballesteros 2015 (@txusballesteros)
+ *
+ * This file is part of some open source application.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Contact: Txus Ballesteros <txus.ballesteros@gmail.com>
+ */
+
+package com.mobandme.android.transformer.parser;
+
+import com.mobandme.android.transformer.internal.Primitives;
+
+/**
+ * Parses decimal texts to int values. This is also the base class of the custom parsers that produce int values,
+ * override {@link #onParseInt(String)} and the generated mappers will call {@link #parseInt(String)} for int
+ * fields without boxing the result. A null value is kept as null by {@link #parse(Object)}, used for the Integer
+ * fields, and rejected with a NullPointerException by {@link #parseInt(String)}, the same than a null Integer
+ * mapped to an int field.
+ */
+@ThreadSafe
+public class StringToIntParser extends AbstractParser<String, Integer> {
+
+    public final int parseInt(String value) {
+        if (value == null)
+            throw new NullPointerException(Primitives.NULL_VALUE_MESSAGE);
+
+        long startTime = Tracing.start();
+        int result = onParseInt(value);
+        Tracing.end(getClass(), startTime);
+
+        return result;
+    }
+
+    /**
+     * Override this method to implement the logic of your parser.
+     * @param value The value that will to be parse.
+     * @return The parser result value.
+     */
+    protected int onParseInt(String value) {
+        return Integer.parseInt(value);
+    }
+
+    @Override
+    protected final Integer onParse(String value) {
+        return value == null ? null : onParseInt(value);
+    }
+}